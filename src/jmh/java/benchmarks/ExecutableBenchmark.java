@@ -0,0 +1,67 @@
+package benchmarks;
+
+import launcher.ChallengeHelper;
+import launcher.Executable;
+import launcher.ExecutableRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of every part of every day, run with: gradle jmh
+ * The results are written as JSON in build/reports/jmh/results.json
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutableBenchmark {
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    private int day;
+
+    private Executable executable;
+
+    @Setup
+    public void setUp() {
+        // Disable the input cache so every invocation really reads the input file
+        ChallengeHelper.setInputCacheMaximumSize(0);
+        executable = ExecutableRegistry.getExecutable(day);
+    }
+
+    /**
+     * The parse phase, reading the input file of the day
+     */
+    @Benchmark
+    public List<String> parse() {
+        return ChallengeHelper.readInputData(day);
+    }
+
+    /**
+     * The whole part one, from reading the input to the answer
+     */
+    @Benchmark
+    public String partOne() {
+        return executable.executePartOne();
+    }
+
+    /**
+     * The whole part two, from reading the input to the answer
+     */
+    @Benchmark
+    public String partTwo() {
+        return executable.executePartTwo();
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import generators.Generators;
+import launcher.ChallengeHelper;
+import launcher.ExecutableRegistry;
+import launcher.ParsedExecutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the parsing and of the parts separately for the days which parse their
+ * input once, run with: gradle jmh -PjmhInclude=ParsedExecutableBenchmark
+ * <p>
+ * The scale parameter measures them on generated inputs instead of the input files, e.g. with
+ * -PjmhScale=0,10,100 (0 is the input file)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParsedExecutableBenchmark {
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    private int day;
+
+    @Param({"0"})
+    private int scale;
+
+    private ParsedExecutable<Object> executable;
+    private List<String> input;
+    private Object model;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        executable = (ParsedExecutable<Object>) ExecutableRegistry.getExecutable(day);
+        // Read or generate the input once, only the parsing of the lines is measured
+        input = scale == 0 ? ChallengeHelper.readInputData(day) : Generators.generate(day, scale, 2018);
+        model = executable.parse(input);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetModel() {
+        // The parts modifying the model need a new one every time, outside of the measure
+        if (!executable.isModelShareable()) {
+            model = executable.parse(input);
+        }
+    }
+
+    /**
+     * The parse phase, from the lines of the input to the model
+     */
+    @Benchmark
+    public Object parse() {
+        return executable.parse(input);
+    }
+
+    /**
+     * The solve phase of part one, from the model to the answer
+     */
+    @Benchmark
+    public String solvePartOne() {
+        return executable.executePartOne(model);
+    }
+
+    /**
+     * The solve phase of part two, from the model to the answer
+     */
+    @Benchmark
+    public String solvePartTwo() {
+        return executable.executePartTwo(model);
+    }
+}
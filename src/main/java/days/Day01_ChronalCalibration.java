@@ -1,59 +1,638 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.MappedInput;
+import launcher.NumberScanner;
+import launcher.ParsedExecutable;
+import lombok.SneakyThrows;
 
-import java.util.HashMap;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongConsumer;
+
+public class Day01_ChronalCalibration implements ParsedExecutable<int[]> {
+    // A single mapping can't be bigger than 2 GB, the bigger files are mapped in several regions
+    private static final long REGION_BYTES = 1L << 30;
+    // Below this size a chunk is parsed by a single thread, it is not worth splitting further
+    private static final int CHUNK_BYTES = 1 << 20;
 
-public class Day01_ChronalCalibration implements Executable {
     @Override
     public String executePartOne() {
+        // Only the sum is needed, so the file is summed where it is mapped instead of being
+        // read line by line and parsed into an array first. The launcher always parses the
+        // input and calls the part with the model, only the JMH benchmarks come here
+        return String.valueOf(sumChanges(ChallengeHelper.getInputPath(1)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(1)));
+    }
+
+    @Override
+    public int[] parse(List<String> input) {
+        // Convert the list of strings to an array of ints so we won't have to parse it
+        // at every iteration, all the changes of frequency are parsed at once without
+        // splitting or boxing them
+        return NumberScanner.parseInts(input);
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        return true;
+    }
+
+    @Override
+    public String executePartOne(int[] parsedInput) {
         return String.valueOf(
-            ChallengeHelper.readInputData(1)
-            .stream()
-            // Transform the stream into an IntStream by parsing the string
-            .mapToInt(Integer::parseInt)
+            Arrays.stream(parsedInput)
+            // Sum as longs, many changes of the same sign would overflow an int
+            .asLongStream()
             // Make the sum of it
             .sum()
         );
     }
 
+    /**
+     * Sum all the changes of a frequency file of any size without reading it on the heap. The
+     * file is mapped in memory in regions of at most 1 GB, and the chunks of each region are
+     * parsed and summed in parallel on the common fork-join pool. All the regions and chunks end
+     * at a new line, so a change is never cut in two. This is a library method, the launcher
+     * doesn't use it as it gives the days their input already read.
+     * @param path The path of the file, one change per line
+     * @return The sum of all the changes
+     * @throws NumberFormatException If a line is not a change or doesn't fit in a long
+     * @throws ArithmeticException If the sum doesn't fit in a long
+     */
+    public static long sumChanges(Path path) {
+        return sumChanges(path, REGION_BYTES);
+    }
+
+    /**
+     * @param regionBytes The maximum size of a region mapped at once, smaller in the tests
+     */
+    @SneakyThrows
+    static long sumChanges(Path path, long regionBytes) {
+        long sum = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            while (position < size) {
+                MappedInput region = MappedInput.map(channel, position, Math.min(size - position, regionBytes));
+                // The last new line of the region, unless this is the end of the file
+                int end = position + region.length() < size ? lastNewLine(region, region.length()) + 1 : region.length();
+
+                if (end == 0) {
+                    throw new IllegalArgumentException(String.format("No new line in the region at %d of %s.", position, path));
+                }
+
+                sum = Math.addExact(sum, ForkJoinPool.commonPool().invoke(new ChunkSum(region, position, 0, end)));
+                position += end;
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return The index of the last new line before the end, -1 if there is none
+     */
+    private static int lastNewLine(MappedInput input, int end) {
+        int index = end - 1;
+
+        while (index >= 0 && input.byteAt(index) != '\n') {
+            index--;
+        }
+
+        return index;
+    }
+
     @Override
-    public String executePartTwo() {
-        List<String> input = ChallengeHelper.readInputData(1);
-        // A map of frequencies to check if one already exists
-        // we use a map because it is faster for lookups
-        Map<Integer, Integer> frequencies = new HashMap<>();
-        // The frequency we will compute at every iteration
-        int frequency = 0;
-
-        // Convert the list of strings to a list of ints so we won't have to parse it
-        // at every iteration
-        // https://stackoverflow.com/a/23674719/7621349
-        List<Integer> parsedInput = input
-            .stream()
-            .mapToInt(Integer::parseInt)
-            .boxed()
-            .collect(Collectors.toList());
-
-        // Using an infinite loop to loop over the list while a result hasn't been found
-        while (true) {
-            for (int number : parsedInput) {
-                frequency += number;
-
-                // Check if we already encountered this frequency
-                if (frequencies.containsKey(frequency)) {
-                    // If the frequency is present return it because this is the one
-                    // we are looking for
-                    return String.valueOf(frequency);
+    public String executePartTwo(int[] parsedInput) {
+        int changes = parsedInput.length;
+
+        if (changes == 0) {
+            throw new IllegalArgumentException("There is no change of frequency, no frequency is ever reached twice.");
+        }
+
+        // The frequencies reached during the first pass: the starting frequency 0, then the one
+        // after each change but the last. Each next pass reaches the same frequencies shifted by the drift,
+        // the sum of all the changes, so the frequency before the change i of the pass k is
+        // frequencies[i] + k * drift, reached at the step k * changes + i
+        long[] frequencies = new long[changes];
+        long drift = 0;
+        long lowest = Long.MAX_VALUE;
+        long highest = Long.MIN_VALUE;
+
+        for (int i = 0; i < changes; i++) {
+            frequencies[i] = drift;
+            lowest = Math.min(lowest, drift);
+            highest = Math.max(highest, drift);
+            drift += parsedInput[i];
+        }
+
+        // A frequency reached twice during the first pass is reached before anything of the next
+        // passes, the first pass is simply replayed until then
+        FrequencySet firstPass = createFrequencySet(lowest, highest, changes);
+
+        for (long frequency : frequencies) {
+            if (!firstPass.add(frequency)) {
+                return String.valueOf(frequency);
+            }
+        }
+
+        // Without drift the starting frequency is the first one reached again, at the end of the pass
+        if (drift == 0) {
+            return String.valueOf(frequencies[0]);
+        }
+
+        return String.valueOf(findFirstRepeatAcrossPasses(frequencies, drift));
+    }
+
+    /**
+     * Find the first frequency reached twice when all the frequencies of the first pass are
+     * different, without going through the passes. The frequency i is reached again m passes
+     * later if frequencies[i] + m * drift is the frequency j of the first pass. Writing the
+     * frequencies as quotient * |drift| + residue, both have the same residue and their quotients
+     * are m apart, so among the frequencies of the same residue sorted by quotient, the nearest one
+     * in the direction of the drift is the first one to be reached from frequency i.
+     */
+    private long findFirstRepeatAcrossPasses(long[] frequencies, long drift) {
+        int changes = frequencies.length;
+        long modulus = Math.abs(drift);
+        long lowestQuotient = Long.MAX_VALUE;
+        long highestQuotient = Long.MIN_VALUE;
+
+        for (long frequency : frequencies) {
+            lowestQuotient = Math.min(lowestQuotient, Math.floorDiv(frequency, modulus));
+            highestQuotient = Math.max(highestQuotient, Math.floorDiv(frequency, modulus));
+        }
+
+        // Sort the frequencies by residue, then by quotient. Each frequency gets a single key so
+        // the sort doesn't box anything: its group, made of its residue and quotient, then its index
+        long quotients = highestQuotient - lowestQuotient + 1;
+        long[] keys = new long[changes];
+
+        for (int i = 0; i < changes; i++) {
+            long residue = Math.floorMod(frequencies[i], modulus);
+            long group = residue * quotients + Math.floorDiv(frequencies[i], modulus) - lowestQuotient;
+            // Fails rather than mixing up the groups of an input spread over billions of frequencies
+            keys[i] = Math.addExact(Math.multiplyExact(group, (long) changes), i);
+        }
+
+        Arrays.sort(keys);
+
+        long earliestStep = Long.MAX_VALUE;
+        long firstRepeated = 0;
+
+        for (int s = 0; s < changes; s++) {
+            int next = drift > 0 ? s + 1 : s - 1;
+
+            if (next < 0 || next >= changes) {
+                continue;
+            }
+
+            long group = keys[s] / changes;
+            long nextGroup = keys[next] / changes;
+
+            // The next frequency has another residue, so it is never reached from this one
+            if (group / quotients != nextGroup / quotients) {
+                continue;
+            }
+
+            // The distance between the quotients is the number of passes between the two
+            long step = Math.abs(nextGroup - group) * changes + keys[s] % changes;
+
+            if (step < earliestStep) {
+                earliestStep = step;
+                firstRepeated = frequencies[(int) (keys[next] % changes)];
+            }
+        }
+
+        // Each residue only drifts away from the frequencies of the first pass
+        if (earliestStep == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("No frequency is ever reached twice.");
+        }
+
+        return firstRepeated;
+    }
+
+    private FrequencySet createFrequencySet(long lowest, long highest, int expectedSize) {
+        // A bit per frequency of the range takes much less memory than the hash set unless the
+        // frequencies are very spread, and the bits stay in the cache
+        if (highest - lowest < FrequencyBitmap.MAXIMUM_BITS) {
+            return new FrequencyBitmap(lowest, highest);
+        }
+
+        return new FrequencyHashSet(expectedSize);
+    }
+
+    /**
+     * Follow changes of frequency arriving one at a time or in batches, e.g. from a live feed,
+     * and tell as soon as a frequency is reached twice. Like part two, the starting frequency 0
+     * counts as reached, so it is the first one reached twice if the changes come back to it.
+     * The frequencies reached are kept as bits in words of 64 consecutive frequencies, only the
+     * words of the frequencies actually reached being stored. Each word takes 32 to 64 bytes of a
+     * table, so close frequencies take a few bits each and spread ones about as much as in a
+     * primitive set. The number of words is capped, 1048576 by default for a table of 32 MB, and the
+     * table is released once the first repeat has been found. A calibrator is not thread safe.
+     */
+    public static class Calibrator {
+        public static final int DEFAULT_MAXIMUM_WORDS = 1 << 20;
+
+        private final LongConsumer onFirstRepeat;
+        // Null once the first repeat has been found, nothing needs to be tracked anymore
+        private FrequencyWords reached;
+        private long frequency = 0;
+        private long changes = 0;
+        private boolean repeated = false;
+        private long firstRepeated;
+
+        public Calibrator() {
+            this(frequency -> { });
+        }
+
+        /**
+         * @param onFirstRepeat Called with the first frequency reached twice, as soon as it is reached
+         */
+        public Calibrator(LongConsumer onFirstRepeat) {
+            this(onFirstRepeat, DEFAULT_MAXIMUM_WORDS);
+        }
+
+        /**
+         * @param onFirstRepeat Called with the first frequency reached twice, as soon as it is reached
+         * @param maximumWords The maximum number of words of 64 frequencies kept before the first repeat
+         */
+        public Calibrator(LongConsumer onFirstRepeat, int maximumWords) {
+            this.onFirstRepeat = onFirstRepeat;
+            this.reached = new FrequencyWords(maximumWords);
+            reached.add(0);
+        }
+
+        /**
+         * Apply one change of frequency
+         * @param change The change
+         * @return true if this change reached the first frequency reached twice
+         * @throws IllegalStateException If the frequencies reached need more words than the maximum,
+         * the change is then not applied
+         */
+        public boolean accept(long change) {
+            long next = frequency + change;
+            boolean added = repeated || reached.add(next);
+            frequency = next;
+            changes++;
+
+            if (added) {
+                return false;
+            }
+
+            repeated = true;
+            firstRepeated = frequency;
+            // Only the sum is kept from now on
+            reached = null;
+            onFirstRepeat.accept(frequency);
+
+            return true;
+        }
+
+        /**
+         * Apply some changes of frequency in their order
+         * @param batch The changes
+         * @return true if one of these changes reached the first frequency reached twice
+         */
+        public boolean accept(int[] batch) {
+            return accept(batch, 0, batch.length);
+        }
+
+        /**
+         * Apply a part of an array of changes of frequency in their order
+         * @param batch The changes
+         * @param offset The index of the first change to apply
+         * @param length The number of changes to apply
+         * @return true if one of these changes reached the first frequency reached twice
+         */
+        public boolean accept(int[] batch, int offset, int length) {
+            boolean found = false;
+
+            for (int i = offset; i < offset + length; i++) {
+                found |= accept(batch[i]);
+            }
+
+            return found;
+        }
+
+        /**
+         * @return The current frequency, the sum of all the changes
+         */
+        public long getFrequency() {
+            return frequency;
+        }
+
+        /**
+         * @return The number of changes applied
+         */
+        public long getChanges() {
+            return changes;
+        }
+
+        /**
+         * @return The first frequency reached twice, empty if none has been yet
+         */
+        public OptionalLong getFirstRepeated() {
+            return repeated ? OptionalLong.of(firstRepeated) : OptionalLong.empty();
+        }
+    }
+
+    /**
+     * The sum of the changes between two offsets of a mapped region, split in two at a new line
+     * until the chunks are small enough to be parsed by a single thread
+     */
+    private static class ChunkSum extends RecursiveTask<Long> {
+        private final MappedInput region;
+        // Where the region starts in the file, to tell where a line can't be parsed
+        private final long regionPosition;
+        private final int start;
+        private final int end;
+
+        private ChunkSum(MappedInput region, long regionPosition, int start, int end) {
+            this.region = region;
+            this.regionPosition = regionPosition;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            // Split at the last new line of the first half, each half then holds whole lines
+            int middle = end - start > CHUNK_BYTES ? lastNewLine(region, start + (end - start) / 2) + 1 : start;
+
+            if (middle <= start) {
+                return sumLines();
+            }
+
+            ChunkSum firstHalf = new ChunkSum(region, regionPosition, start, middle);
+            firstHalf.fork();
+            long secondHalf = new ChunkSum(region, regionPosition, middle, end).compute();
+
+            return Math.addExact(firstHalf.join(), secondHalf);
+        }
+
+        private long sumLines() {
+            long sum = 0;
+            long change = 0;
+            boolean negative = false;
+            boolean signed = false;
+            int digits = 0;
+
+            // Parse the bytes directly, a line is only an optional sign and digits so this is much
+            // quicker than going through the chars of a NumberScanner. Anything else in a line
+            // fails instead of being skipped, "+1x2" is not 12
+            for (int i = start; i < end; i++) {
+                byte b = region.byteAt(i);
+
+                if (b >= '0' && b <= '9') {
+                    // Fails before the change overflows, like Long.parseLong
+                    if (change > (Long.MAX_VALUE - (b - '0')) / 10) {
+                        throw invalidLine(i);
+                    }
+
+                    change = change * 10 + (b - '0');
+                    digits++;
+                } else if ((b == '-' || b == '+') && !signed && digits == 0) {
+                    negative = b == '-';
+                    signed = true;
+                } else if (b == '\r' && (i + 1 == end || region.byteAt(i + 1) == '\n')) {
+                    // The end of a line written on Windows, the new line follows
+                    continue;
+                } else if (b == '\n') {
+                    // An empty line is skipped like the parsing does, a sign alone is not a change
+                    if (signed && digits == 0) {
+                        throw invalidLine(i);
+                    }
+
+                    sum = Math.addExact(sum, negative ? -change : change);
+                    change = 0;
+                    negative = false;
+                    signed = false;
+                    digits = 0;
+                } else {
+                    throw invalidLine(i);
                 }
+            }
+
+            // The last line of the file may have no new line
+            if (signed && digits == 0) {
+                throw invalidLine(end);
+            }
+
+            return Math.addExact(sum, negative ? -change : change);
+        }
+
+        private NumberFormatException invalidLine(int index) {
+            return new NumberFormatException(String.format(
+                "The line around the byte %d of the file is not a change of frequency.",
+                regionPosition + index
+            ));
+        }
+    }
+
+    private interface FrequencySet {
+        /**
+         * @param value The value to add
+         * @return false if the value was already in the set
+         */
+        boolean add(long value);
+    }
+
+    /**
+     * A bit per value of a range known in advance
+     */
+    private static class FrequencyBitmap implements FrequencySet {
+        // 2 MB, the size of the hash set for about 130 000 frequencies
+        private static final long MAXIMUM_BITS = 1L << 24;
+
+        private final long[] words;
+        private final long first;
+
+        private FrequencyBitmap(long first, long last) {
+            this.words = new long[(int) ((last - first) / 64 + 1)];
+            this.first = first;
+        }
+
+        @Override
+        public boolean add(long value) {
+            int bit = (int) (value - first);
+            long mask = 1L << bit;
+            long word = words[bit >>> 6];
+            words[bit >>> 6] = word | mask;
+
+            return (word & mask) == 0;
+        }
+    }
+
+    /**
+     * A set of longs with open addressing: the values are stored directly in an array, a value
+     * colliding with another one goes to the next free slot. The slots hold 0 when they are free,
+     * so whether 0 itself is in the set is kept aside.
+     */
+    private static class FrequencyHashSet implements FrequencySet {
+        // Grow once more than half of the slots are used, so the runs of used slots stay short
+        private static final int MAXIMUM_LOAD_PERCENT = 50;
+
+        private long[] slots;
+        // The slots array length minus one, its length being a power of two
+        private int mask;
+        private int size = 0;
+        private boolean containsZero = false;
+
+        private FrequencyHashSet(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(expectedSize * 100 / MAXIMUM_LOAD_PERCENT, 16) - 1) << 1;
+            slots = new long[capacity];
+            mask = capacity - 1;
+        }
 
-                // If the frequency was not present, add it
-                frequencies.put(frequency, frequency);
+        @Override
+        public boolean add(long value) {
+            if (value == 0) {
+                boolean added = !containsZero;
+                containsZero = true;
+                return added;
             }
+
+            int index = indexOf(value, slots, mask);
+
+            if (slots[index] == value) {
+                return false;
+            }
+
+            slots[index] = value;
+
+            if (++size * 100 > slots.length * MAXIMUM_LOAD_PERCENT) {
+                grow();
+            }
+
+            return true;
+        }
+
+        private void grow() {
+            long[] grownSlots = new long[slots.length * 2];
+            int grownMask = grownSlots.length - 1;
+
+            for (long value : slots) {
+                if (value != 0) {
+                    grownSlots[indexOf(value, grownSlots, grownMask)] = value;
+                }
+            }
+
+            slots = grownSlots;
+            mask = grownMask;
+        }
+
+        /**
+         * @return The slot holding the value, or the free slot where it should go
+         */
+        private static int indexOf(long value, long[] slots, int mask) {
+            // Spread the bits of the value and keep the highest ones, as close frequencies would
+            // else fill neighbouring slots
+            int index = (int) ((value * 0x9E3779B97F4A7C15L) >>> Long.numberOfLeadingZeros(mask));
+
+            while (slots[index] != 0 && slots[index] != value) {
+                index = (index + 1) & mask;
+            }
+
+            return index;
+        }
+    }
+
+    /**
+     * The words of 64 consecutive values holding at least one value, with open addressing: the
+     * index of a word and its bits are stored in two arrays, a word colliding with another one
+     * goes to the next free slot. A word of a used slot has at least one bit set, so a word at 0
+     * is a free slot.
+     */
+    private static class FrequencyWords implements FrequencySet {
+        // Grow once more than half of the slots are used, so the runs of used slots stay short
+        private static final int MAXIMUM_LOAD_PERCENT = 50;
+
+        private final int maximumWords;
+        private long[] indexes = new long[16];
+        private long[] words = new long[16];
+        // The arrays length minus one, their length being a power of two
+        private int mask = 15;
+        private int size = 0;
+
+        private FrequencyWords(int maximumWords) {
+            this.maximumWords = maximumWords;
+        }
+
+        @Override
+        public boolean add(long value) {
+            long wordIndex = value >> 6;
+            long bit = 1L << (value & 63);
+            int slot = slotOf(wordIndex, indexes, words, mask);
+
+            if (words[slot] != 0) {
+                boolean added = (words[slot] & bit) == 0;
+                words[slot] |= bit;
+                return added;
+            }
+
+            if (size == maximumWords) {
+                throw new IllegalStateException(String.format(
+                    "More than %d words of 64 frequencies would be needed before the first repeat.",
+                    maximumWords
+                ));
+            }
+
+            indexes[slot] = wordIndex;
+            words[slot] = bit;
+
+            if (++size * 100 > words.length * MAXIMUM_LOAD_PERCENT) {
+                grow();
+            }
+
+            return true;
+        }
+
+        private void grow() {
+            long[] grownIndexes = new long[indexes.length * 2];
+            long[] grownWords = new long[words.length * 2];
+            int grownMask = grownWords.length - 1;
+
+            for (int i = 0; i < words.length; i++) {
+                if (words[i] != 0) {
+                    int slot = slotOf(indexes[i], grownIndexes, grownWords, grownMask);
+                    grownIndexes[slot] = indexes[i];
+                    grownWords[slot] = words[i];
+                }
+            }
+
+            indexes = grownIndexes;
+            words = grownWords;
+            mask = grownMask;
+        }
+
+        /**
+         * @return The slot holding the word, or the free slot where it should go
+         */
+        private static int slotOf(long wordIndex, long[] indexes, long[] words, int mask) {
+            // Spread the bits of the index, the words of close frequencies would else fill
+            // neighbouring slots
+            int slot = (int) ((wordIndex * 0x9E3779B97F4A7C15L) >>> Long.numberOfLeadingZeros(mask));
+
+            while (words[slot] != 0 && indexes[slot] != wordIndex) {
+                slot = (slot + 1) & mask;
+            }
+
+            return slot;
         }
     }
 }
@@ -1,134 +1,238 @@
 package days;
 
-import com.google.common.base.CharMatcher;
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-public class Day02_InventoryManagementSystem implements Executable {
+public class Day02_InventoryManagementSystem implements ParsedExecutable<List<String>> {
+    // The base of the polynomial hash of the IDs, the hashes simply overflow
+    private static final long HASH_BASE = 131;
+
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(2);
-        // Keep the counter of the occurences of two chars and three chars
-        int twos = 0;
-        int threes = 0;
-
-        // For each string in the input
-        for (String input : inputs) {
-            // Make a list of excluded chars to not count the one
-            // we already processed
-            List<Character> excluded = new ArrayList<>();
-            // Use a flag as if there is two times two chars, it only counts as one e.g
-            // aabbcd, there is 'aa' and 'bb' but it counts only as one
-            boolean twosFlag = false;
-            // Same for three occurence
-            boolean threesFlag = false;
+        return executePartOne(parse(ChallengeHelper.readInputData(2)));
+    }
 
-            // For each char in the string
-            for (char c : input.toCharArray()) {
-                // If the char is excluded don't bother processing and continue
-                if (excluded.contains(c)) {
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(2)));
+    }
+
+    @Override
+    public List<String> parse(List<String> input) {
+        // The box IDs are used as they are
+        return input;
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        return true;
+    }
+
+    @Override
+    public String executePartOne(List<String> inputs) {
+        // Count the IDs with a letter exactly twice and the ones with a letter exactly three
+        // times, the lines are split between the threads and their counts are added at the end
+        LetterCounts counts = inputs
+            .parallelStream()
+            .collect(LetterCounts::new, LetterCounts::add, LetterCounts::merge);
+
+        // As a long, millions of IDs would overflow an int
+        return String.valueOf((long) counts.twos * counts.threes);
+    }
+
+    @Override
+    public String executePartTwo(List<String> inputs) {
+        // Two IDs differing by exactly one letter are the same once that letter is masked, so
+        // for each position the IDs are hashed with the letter at this position masked, and only
+        // the IDs with the same hash are compared. The hash of each ID is the polynomial hash
+        // sum(id[j] * BASE^(length - 1 - j)), masking the position p leaves
+        // prefix(p) * BASE^(length - 1 - p) + suffix(p + 1), both being updated from one
+        // position to the next instead of hashing the IDs again
+        int size = inputs.size();
+        long[] prefixHashes = new long[size];
+        long[] suffixHashes = new long[size];
+        int longest = 0;
+
+        for (int i = 0; i < size; i++) {
+            String id = inputs.get(i);
+            longest = Math.max(longest, id.length());
+
+            for (int j = 0; j < id.length(); j++) {
+                suffixHashes[i] = suffixHashes[i] * HASH_BASE + id.charAt(j);
+            }
+        }
+
+        long[] powers = new long[longest];
+
+        for (int k = 0; k < longest; k++) {
+            powers[k] = k == 0 ? 1 : powers[k - 1] * HASH_BASE;
+        }
+
+        MaskedIdTable table = new MaskedIdTable(size);
+
+        for (int position = 0; position < longest; position++) {
+            table.clear();
+
+            for (int i = 0; i < size; i++) {
+                String id = inputs.get(i);
+
+                // The shorter IDs have nothing at this position
+                if (position >= id.length()) {
                     continue;
                 }
-                // Count the number of occurences of the char in the string
-                int count = CharMatcher.is(c).countIn(input);
-                // Add the char to the excluded list
-                excluded.add(c);
-                // If the count is 2, set the two flag to true
-                if (count == 2) {
-                    twosFlag = true;
-                } else if (count == 3) {
-                    // If the count is 3, set the three flag to true
-                    threesFlag = true;
+
+                char letter = id.charAt(position);
+                long weight = powers[id.length() - 1 - position];
+                suffixHashes[i] -= letter * weight;
+                // The length is mixed in as the IDs of different lengths can't match
+                long maskedHash = (prefixHashes[i] * weight + suffixHashes[i]) * 31 + id.length();
+                prefixHashes[i] = prefixHashes[i] * HASH_BASE + letter;
+
+                int match = table.findOrAdd(maskedHash, i, inputs, position);
+
+                // The common letters are the ID without the one at this position
+                if (match >= 0) {
+                    return id.substring(0, position) + id.substring(position + 1);
                 }
             }
+        }
 
-            // If the two flag is set to true, increment by one the twos counter
-            if (twosFlag) {
-                twos++;
-            }
+        throw new IllegalArgumentException("No two IDs differ by exactly one letter.");
+    }
 
-            // Same here for the three flag and threes counter
-            if (threesFlag) {
-                threes++;
+    /**
+     * The IDs already seen for a position, by their hash with the letter at this position masked.
+     * The hashes and the indexes of the IDs are kept in arrays with open addressing, an ID
+     * colliding with another one goes to the next free slot.
+     */
+    private static class MaskedIdTable {
+        private final long[] hashes;
+        // The index of the ID plus one, 0 for a free slot
+        private final int[] ids;
+        private final int mask;
+
+        private MaskedIdTable(int expectedSize) {
+            // At most half full so the runs of used slots stay short
+            int capacity = Integer.highestOneBit(Math.max(expectedSize * 2, 16) - 1) << 1;
+            hashes = new long[capacity];
+            ids = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private void clear() {
+            Arrays.fill(ids, 0);
+        }
+
+        /**
+         * Look for an ID differing from the given one only at the position, or add the given one
+         * @param hash The hash of the ID with the letter at the position masked
+         * @param index The index of the ID
+         * @param inputs All the IDs
+         * @param position The position of the masked letter
+         * @return The index of the matching ID, -1 if there is none yet
+         */
+        private int findOrAdd(long hash, int index, List<String> inputs, int position) {
+            // Spread the bits of the hash and keep the highest ones
+            int slot = (int) ((hash * 0x9E3779B97F4A7C15L) >>> Long.numberOfLeadingZeros(mask));
+
+            while (ids[slot] != 0) {
+                // The same hash can come from different IDs, or from the same ID given twice
+                if (hashes[slot] == hash && differOnlyAt(inputs.get(ids[slot] - 1), inputs.get(index), position)) {
+                    return ids[slot] - 1;
+                }
+
+                slot = (slot + 1) & mask;
             }
+
+            hashes[slot] = hash;
+            ids[slot] = index + 1;
+
+            return -1;
         }
 
-        return String.valueOf(twos * threes);
+        private boolean differOnlyAt(String first, String second, int position) {
+            if (first.length() != second.length() || first.charAt(position) == second.charAt(position)) {
+                return false;
+            }
+
+            return first.regionMatches(0, second, 0, position)
+                && first.regionMatches(position + 1, second, position + 1, first.length() - position - 1);
+        }
     }
 
-    @Override
-    public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(2);
-        // String index to find the string for the result
-        int stringIndex = 0;
-        // The char to remove for the result
-        int charIndex = 0;
-        // The number of errors we want between the strings
-        int errorThreshold = 1;
-
-        // For all the strings we got in the input
-        for (String input : inputs) {
-            // We use this flag to break execution later
-            // to avoid uneccessary work
-            boolean isSet = false;
-            // We need to compare the current string to all others
-            // so we do the same loop
-            for (String nestedInput : inputs) {
-                // if this is the same string don't bother computing it
-                // and continue
-                if (nestedInput.equals(input)) {
-                    continue;
+    /**
+     * The number of IDs having a letter exactly twice and exactly three times, among the IDs
+     * added to it. Each thread adds its IDs to its own counts, reusing the same histogram of the
+     * letters for all of them. An ID with other chars than lowercase letters is counted too, like
+     * any char was counted before the histogram.
+     */
+    private static class LetterCounts {
+        private final int[] histogram = new int[26];
+        private int twos = 0;
+        private int threes = 0;
+
+        private void add(String id) {
+            // Use flags as if there is two times two chars, it only counts as one e.g
+            // aabbcd, there is 'aa' and 'bb' but it counts only as one
+            boolean twosFlag = false;
+            boolean threesFlag = false;
+
+            if (isLowercase(id)) {
+                for (int i = 0; i < id.length(); i++) {
+                    histogram[id.charAt(i) - 'a']++;
                 }
 
-                // Counter for the number of errors between the 2 strings
-                int errors = 0;
-
-                // Iterate over the chars of the string
-                for (int i = 0; i < nestedInput.length(); i++) {
-                    // If the chars are equal, continue as we are not interested
-                    // in equal chars
-                    if (input.charAt(i) == nestedInput.charAt(i)) {
-                        continue;
-                    } else {
-                        // If they are not equal, increment the error counter
-                        // and save the index of the char
-                        errors++;
-                        charIndex = i;
-                    }
+                for (int count : histogram) {
+                    twosFlag |= count == 2;
+                    threesFlag |= count == 3;
+                }
+
+                // Clear the histogram for the next ID
+                Arrays.fill(histogram, 0);
+            } else {
+                // Any other char is counted too, by sorting the chars so the same ones follow
+                char[] chars = id.toCharArray();
+                Arrays.sort(chars);
+
+                for (int start = 0, end; start < chars.length; start = end) {
+                    end = start + 1;
 
-                    // If the error counter is greather than the error threshold
-                    // don't bother continuing and break
-                    if (errors > errorThreshold) {
-                        break;
+                    while (end < chars.length && chars[end] == chars[start]) {
+                        end++;
                     }
-                }
 
-                // If when we got here, there is only one error (errorThreshold is set to 1)
-                // then it means we found our strings
-                if (errors == errorThreshold) {
-                    // Save the index of the string, input or nestedInput is the same
-                    // as the two strings should be nearly identical
-                    stringIndex = inputs.indexOf(input);
-                    // Set the flag to true to halt execution of outter loop
-                    isSet = true;
-                    // And break this one
-                    break;
+                    twosFlag |= end - start == 2;
+                    threesFlag |= end - start == 3;
                 }
             }
 
-            // If the flag is true break this loop to return result
-            if (isSet) {
-                break;
+            if (twosFlag) {
+                twos++;
+            }
+
+            if (threesFlag) {
+                threes++;
             }
         }
 
-        // Using a StringBuilder to remove the char at the given index easily
-        StringBuilder stringBuilder = new StringBuilder(inputs.get(stringIndex));
-        stringBuilder.deleteCharAt(charIndex);
+        private boolean isLowercase(String id) {
+            for (int i = 0; i < id.length(); i++) {
+                char c = id.charAt(i);
 
-        return stringBuilder.toString();
+                if (c < 'a' || c > 'z') {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void merge(LetterCounts other) {
+            twos += other.twos;
+            threes += other.threes;
+        }
     }
 }
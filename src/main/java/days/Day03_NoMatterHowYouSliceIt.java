@@ -1,18 +1,34 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 import lombok.Value;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-public class Day03_NoMatterHowYouSliceIt implements Executable {
+public class Day03_NoMatterHowYouSliceIt implements ParsedExecutable<Day03_NoMatterHowYouSliceIt.ParseContext> {
     @Override
     public String executePartOne() {
+        return executePartOne(parse(ChallengeHelper.readInputData(3)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(3)));
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        // Both parts only read the fabric
+        return true;
+    }
+
+    @Override
+    public String executePartOne(ParseContext parseContext) {
         return String.valueOf(
-            parseInput(ChallengeHelper.readInputData(3))
+            parseContext
             // Get the List of List of List of String which represent the fabric
             .getFabric()
             // Stream it
@@ -29,29 +45,12 @@ public class Day03_NoMatterHowYouSliceIt implements Executable {
     }
 
     @Override
-    public String executePartTwo() {
-        // Get all the line in the file, as a list of string split on new line separator
-        List<String> inputs = ChallengeHelper.readInputData(3);
-
-        // parse the input exactly like part 1
-        ParseContext parseContext = parseInput(inputs);
-
+    public String executePartTwo(ParseContext parseContext) {
         // We will search for the id of the claim that doesn't overlap other
         // So we iterate each claim
         for (Claim claim : parseContext.getClaims()) {
-            // Walk the fabric space that the claim claimed
-            for (int i = 0; i < claim.getWidth(); i++) {
-                for (int j = 0; j < claim.getHeight(); j++) {
-                    // If one of the claim point is consist of more than one claim (ours) then abort
-                    // execution of the loop because this can't be this claim
-                    if (parseContext
-                        .getFabric()
-                        .get(claim.getLeftOffset() + i)
-                        .get(claim.getTopOffset() + j)
-                        .size() > 1) {
-                        return claim.getId();
-                    }
-                }
+            if (!overlaps(claim, parseContext)) {
+                return claim.getId();
             }
         }
 
@@ -59,7 +58,27 @@ public class Day03_NoMatterHowYouSliceIt implements Executable {
         return "";
     }
 
-    private ParseContext parseInput(List<String> inputs) {
+    private boolean overlaps(Claim claim, ParseContext parseContext) {
+        // Walk the fabric space that the claim claimed
+        for (int i = 0; i < claim.getWidth(); i++) {
+            for (int j = 0; j < claim.getHeight(); j++) {
+                // If one of the claim point is consist of more than one claim (ours) then
+                // this can't be this claim
+                if (parseContext
+                    .getFabric()
+                    .get(claim.getLeftOffset() + i)
+                    .get(claim.getTopOffset() + j)
+                    .size() > 1) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public ParseContext parse(List<String> inputs) {
         // Create a list of list of list of string which represent the fabric
         // The first list is for the width
         // The second list is for the height
@@ -145,7 +164,7 @@ public class Day03_NoMatterHowYouSliceIt implements Executable {
     }
 
     @Value
-    private class ParseContext {
+    class ParseContext {
         private List<List<List<String>>> fabric;
         private List<Claim> claims;
     }
@@ -1,7 +1,7 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 import lombok.Value;
 
 import java.util.ArrayList;
@@ -11,18 +11,38 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class Day04_ReposeRecord implements Executable {
+public class Day04_ReposeRecord implements ParsedExecutable<Map<Integer, Day04_ReposeRecord.Guard>> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(4);
+        return executePartOne(parse(ChallengeHelper.readInputData(4)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(4)));
+    }
+
+    @Override
+    public Map<Integer, Guard> parse(List<String> input) {
+        // Copy the input because the list we get can't be modified
+        List<String> inputs = new ArrayList<>(input);
 
         // We can just sort the inputs, with a default sorting because the date format
         // is sortable
         Collections.sort(inputs);
 
         // Parse the input to get the guards
-        Map<Integer, Guard> guards = parseInput(inputs);
+        return parseInput(inputs);
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        // Both parts only read the shifts of the guards
+        return true;
+    }
 
+    @Override
+    public String executePartOne(Map<Integer, Guard> guards) {
         // Get the guard most asleep
         Guard mostAsleepGuard = findMostAsleepGuard(guards);
         // Find the minute he most slept on
@@ -32,16 +52,7 @@ public class Day04_ReposeRecord implements Executable {
     }
 
     @Override
-    public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(4);
-
-        // We can just sort the inputs, with a default sorting because the date format
-        // is sortable
-        Collections.sort(inputs);
-
-        // Parse the input to get the guards
-        Map<Integer, Guard> guards = parseInput(inputs);
-
+    public String executePartTwo(Map<Integer, Guard> guards) {
         // Get a list of context for each guard
         List<MaximumContext> maximumContexts = new ArrayList<>();
 
@@ -337,7 +348,7 @@ public class Day04_ReposeRecord implements Executable {
     }
 
     @Value
-    private class Guard {
+    class Guard {
         private int id;
         private List<Shift> shifts;
     }
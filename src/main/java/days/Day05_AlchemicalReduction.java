@@ -1,27 +1,44 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class Day05_AlchemicalReduction implements Executable {
+public class Day05_AlchemicalReduction implements ParsedExecutable<String> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(5);
-        // Transform the string into a stringBuilder so it is easier to manipulate
-        StringBuilder input = new StringBuilder(inputs.get(0));
-
-        return String.valueOf(recursiveReduction(input, input.length()));
+        return executePartOne(parse(ChallengeHelper.readInputData(5)));
     }
 
     @Override
     public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(5);
+        return executePartTwo(parse(ChallengeHelper.readInputData(5)));
+    }
+
+    @Override
+    public String parse(List<String> inputs) {
         // Get the first line as the input is only one line
-        String input = inputs.get(0);
+        return inputs.get(0);
+    }
 
+    @Override
+    public boolean isModelShareable() {
+        // The polymer is a String so it can't be modified
+        return true;
+    }
+
+    @Override
+    public String executePartOne(String polymer) {
+        // Transform the string into a stringBuilder so it is easier to manipulate
+        StringBuilder input = new StringBuilder(polymer);
+
+        return String.valueOf(recursiveReduction(input, input.length()));
+    }
+
+    @Override
+    public String executePartTwo(String input) {
         // Get all the distinct chars
         List<String> letters = input
             // Lower case the input to get only distinct letter
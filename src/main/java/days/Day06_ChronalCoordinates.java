@@ -1,7 +1,7 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 import lombok.Value;
 
 import java.util.ArrayList;
@@ -12,12 +12,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public class Day06_ChronalCoordinates implements Executable {
+public class Day06_ChronalCoordinates implements ParsedExecutable<List<Day06_ChronalCoordinates.Point>> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(6);
-        // Parse the list of string to coordinates
-        List<Point> points = parseCoordinates(inputs);
+        return executePartOne(parse(ChallengeHelper.readInputData(6)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(6)));
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        // The points are immutable
+        return true;
+    }
+
+    @Override
+    public String executePartOne(List<Point> points) {
         Point[][] map = computeCoordinates(points);
         map = excludeInfiniteAreas(map);
 
@@ -25,17 +38,13 @@ public class Day06_ChronalCoordinates implements Executable {
     }
 
     @Override
-    public String executePartTwo() {
-        return String.valueOf(
-            computeSafeArea(
-                parseCoordinates(
-                    ChallengeHelper.readInputData(6)
-                )
-            )
-        );
+    public String executePartTwo(List<Point> points) {
+        return String.valueOf(computeSafeArea(points));
     }
 
-    private List<Point> parseCoordinates(List<String> inputs) {
+    @Override
+    public List<Point> parse(List<String> inputs) {
+        // Parse the list of string to coordinates
         return inputs
             // Stream the list of input
             .stream()
@@ -244,7 +253,7 @@ public class Day06_ChronalCoordinates implements Executable {
     }
 
     @Value
-    private class Point {
+    class Point {
         private int x;
         private int y;
     }
@@ -1,7 +1,7 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Value;
@@ -16,13 +16,26 @@ import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.stream.Collectors;
 
-public class Day07_TheSumOfItsParts implements Executable {
+public class Day07_TheSumOfItsParts implements ParsedExecutable<List<Day07_TheSumOfItsParts.Node>> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(7);
+        return executePartOne(parse(ChallengeHelper.readInputData(7)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(7)));
+    }
 
-        // Compute the directed graph from the input
-        List<Node> graph = computeDirectedGraph(inputs);
+    @Override
+    public List<Node> parse(List<String> inputs) {
+        // Compute the directed graph from the input, each part needs its own graph
+        // because the nodes are marked as visited while walking it
+        return computeDirectedGraph(inputs);
+    }
+
+    @Override
+    public String executePartOne(List<Node> graph) {
         // Sort the node using a topological sort (should be)
         // https://en.wikipedia.org/wiki/Topological_sorting
         List<Node> topologicallySorted = topologicalSort(graph);
@@ -31,11 +44,7 @@ public class Day07_TheSumOfItsParts implements Executable {
     }
 
     @Override
-    public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(7);
-
-        // Compute the directed graph from the input
-        List<Node> graph = computeDirectedGraph(inputs);
+    public String executePartTwo(List<Node> graph) {
         // Compute the time it took to complete all of the jobs
         return String.valueOf(computeTimeOfWork(graph));
     }
@@ -249,7 +258,7 @@ public class Day07_TheSumOfItsParts implements Executable {
     }
 
     @Data
-    private class Node {
+    class Node {
         private String name;
         private List<Node> parents;
         private List<Node> childs;
@@ -1,62 +1,47 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.NumberScanner;
+import launcher.ParsedExecutable;
 import lombok.Value;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
-public class Day08_MemoryManeuver implements Executable {
+public class Day08_MemoryManeuver implements ParsedExecutable<Day08_MemoryManeuver.Node> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(8);
-        // Convert the strings to integers
-        List<Integer> numbers = parseInput(inputs);
-        // Build the tree from the input
-        Node tree = buildTreeRecursively(numbers);
-        // Walk the tree and make the sum of the metadata
-        return String.valueOf(sumOfMetadataRecursively(tree));
+        return executePartOne(parse(ChallengeHelper.readInputData(8)));
     }
 
     @Override
     public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(8);
-        // Convert the strings to integers
-        List<Integer> numbers = parseInput(inputs);
-        // Build the tree from the input
-        Node tree = buildTreeRecursively(numbers);
-        // Walk the tree and make the sum of the nodes according to the rules
-        return String.valueOf(complicatedSumOfMetadataRecursively(tree));
+        return executePartTwo(parse(ChallengeHelper.readInputData(8)));
     }
 
-    private List<Integer> parseInput(List<String> inputs) {
-        List<Integer> numbers = new ArrayList<>();
-
-        // We use a for loop, but there should be only one line in the input file
-        for (String input : inputs) {
-            // Split the line on the spaces
-            String[] splitInput = input.split(" ");
-            // Convert the array to a list
-            List<String> splitInputList = Arrays.asList(splitInput);
-
-            // Add all the parsed numbers to the list
-            numbers.addAll(
-                splitInputList
-                    // Stream the input list
-                    .stream()
-                    // Parse the string to an integer
-                    .mapToInt(Integer::parseInt)
-                    // Box them to get a Stream<Integer> instead of IntStream
-                    .boxed()
-                    // Collect the result into a list
-                    .collect(Collectors.toList())
-            );
-        }
+    @Override
+    public Node parse(List<String> inputs) {
+        // Build the tree from the numbers of the input, read one after the other
+        return buildTreeRecursively(new NumberScanner(inputs));
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        // Both parts only walk the tree
+        return true;
+    }
 
-        return numbers;
+    @Override
+    public String executePartOne(Node tree) {
+        // Walk the tree and make the sum of the metadata
+        return String.valueOf(sumOfMetadataRecursively(tree));
+    }
+
+    @Override
+    public String executePartTwo(Node tree) {
+        // Walk the tree and make the sum of the nodes according to the rules
+        return String.valueOf(complicatedSumOfMetadataRecursively(tree));
     }
 
     private int sumOfMetadataRecursively(Node rootNode) {
@@ -69,21 +54,21 @@ public class Day08_MemoryManeuver implements Executable {
         }
 
         // Return the sum of each child plus the sum of the metadata of the current node
-        return localSum + rootNode.getMetadata().stream().mapToInt(Integer::intValue).sum();
+        return localSum + Arrays.stream(rootNode.getMetadata()).sum();
     }
 
     private int complicatedSumOfMetadataRecursively(Node rootNode) {
         // If the node doesn't have any childs
         if (rootNode.getChilds().size() == 0) {
             // Do the sum of its metadata
-            return rootNode.getMetadata().stream().mapToInt(Integer::intValue).sum();
+            return Arrays.stream(rootNode.getMetadata()).sum();
         } else {
             // Store the local sum
             int localSum = 0;
 
             // For each metadata number, we use it as an index (the index is 1 based,
             // so we need to substract 1 from it to be able to use it)
-            for (Integer metadata : rootNode.getMetadata()) {
+            for (int metadata : rootNode.getMetadata()) {
                 // If the index is 0 then we can't use it so continue
                 if (metadata == 0) {
                     continue;
@@ -106,16 +91,12 @@ public class Day08_MemoryManeuver implements Executable {
         }
     }
 
-    private Node buildTreeRecursively(List<Integer> numbers) {
-        // Extract the header from the input, we know it is always the first two numbers
-        List<Integer> header = numbers.subList(0, 2);
+    private Node buildTreeRecursively(NumberScanner numbers) {
+        // Read the header from the input, we know it is always the next two numbers
         // The first part is the number of childs
-        int childs = header.get(0);
+        int childs = numbers.nextInt();
         // The second part is the number of metadata entries
-        int entries = header.get(1);
-
-        // Remove the header from the input
-        numbers.subList(0, 2).clear();
+        int entries = numbers.nextInt();
 
         // List to hold all child nodes
         List<Node> childList = new ArrayList<>();
@@ -126,19 +107,17 @@ public class Day08_MemoryManeuver implements Executable {
             childList.add(buildTreeRecursively(numbers));
         }
 
-        // Get the metadata from the input
-        List<Integer> metadataEntries = new ArrayList<>(numbers.subList(0, entries));
-
-        // Then remove the metadata entries
-        numbers.subList(0, entries).clear();
+        // Then read the metadata entries which follow the childs
+        int[] metadataEntries = new int[entries];
+        numbers.nextInts(metadataEntries);
 
         // Return a new node with the childs and metadata entries
         return new Node(childList, metadataEntries);
     }
 
     @Value
-    private class Node {
+    class Node {
         private List<Node> childs;
-        private List<Integer> metadata;
+        private int[] metadata;
     }
 }
@@ -1,7 +1,9 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.NumberScanner;
+import launcher.ParsedExecutable;
+import launcher.SolverProgress;
 import lombok.Data;
 import lombok.Value;
 
@@ -10,11 +12,24 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class Day09_MarbleMania implements Executable {
+public class Day09_MarbleMania implements ParsedExecutable<Day09_MarbleMania.MarbleInitialParameters> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(9);
-        MarbleInitialParameters marbleInitialParameters = parseInput(inputs);
+        return executePartOne(parse(ChallengeHelper.readInputData(9)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(9)));
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        return true;
+    }
+
+    @Override
+    public String executePartOne(MarbleInitialParameters marbleInitialParameters) {
         return String.valueOf(
             playMarbleGame(
                 marbleInitialParameters.getNumberOfMarbles(),
@@ -25,9 +40,7 @@ public class Day09_MarbleMania implements Executable {
     }
 
     @Override
-    public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(9);
-        MarbleInitialParameters marbleInitialParameters = parseInput(inputs);
+    public String executePartTwo(MarbleInitialParameters marbleInitialParameters) {
         return String.valueOf(
             playMarbleGame(
                 marbleInitialParameters.getNumberOfMarbles(),
@@ -37,27 +50,26 @@ public class Day09_MarbleMania implements Executable {
         );
     }
 
-    private MarbleInitialParameters parseInput(List<String> inputs) {
+    @Override
+    public MarbleInitialParameters parse(List<String> inputs) {
         // We can get only the first line because the input is on one line
         String input = inputs.get(0);
 
-        // Split the input on the spaces, we are interested in the number of players
-        // and the value of the last marble
+        // Scan the numbers of the input, we are interested in the number of players
+        // and the value of the last marble which are the only numbers of the line
         // "404 players; last marble is worth 71852 points"
-        // ["404", "players;", "last", "marble", "is", "worth", "71852", "points"]
-        //    ↥                                                    ↥
-        //   [0]                                                  [6]
-        String[] splitInput = input.split(" ");
+        //  ↥                                 ↥
+        NumberScanner numberScanner = new NumberScanner(input);
 
-        int numberOfPlayers = Integer.parseInt(splitInput[0]);
-        int numberOfMarbles = Integer.parseInt(splitInput[6]);
+        int numberOfPlayers = numberScanner.nextInt();
+        long numberOfMarbles = numberScanner.nextLong();
 
         return new MarbleInitialParameters(numberOfMarbles, numberOfPlayers);
     }
 
-    private long playMarbleGame(int marbles, int players, int multiplicator) {
+    private long playMarbleGame(long marbles, int players, int multiplicator) {
         // Initialize the circular queue
-        CircularQueue<Integer> game = new CircularQueue<>();
+        CircularQueue<Long> game = new CircularQueue<>();
         // Keep the leaderboard of players
         // Had to use a Long for part 2, but there was no StackOverflow so it's weird only clue
         // was that it would return a negative value
@@ -76,7 +88,15 @@ public class Day09_MarbleMania implements Executable {
         // what we want. We want to go through marble: 0 to 71852.
         // So we can either add one to the number of iterations or use a less or equal operator.
         // The two should be valid.
-        for (int i = 0; i < (marbles * multiplicator) + 1; i++) {
+        // A long because part two of a generated input has more marbles than an int can count
+        long totalMarbles = Math.addExact(Math.multiplyExact(marbles, multiplicator), 1);
+
+        for (long i = 0; i < totalMarbles; i++) {
+            // Tell how far the game is every 65536 marbles
+            if ((i & 0xFFFF) == 0) {
+                SolverProgress.report("marbles", i, totalMarbles);
+            }
+
             // If i is not zero and a multiple of 23 then do special rule
             if (i != 0 && i % 23 == 0) {
                 // Rotate the queue by 7 anti clock wise
@@ -85,8 +105,8 @@ public class Day09_MarbleMania implements Executable {
                 // we use merge so if there is no mapping already, it creates one
                 // and put the value, else it just merge the values
                 leaderboard.merge(
-                    i % players,
-                    i + new Long(game.pop()),
+                    (int) (i % players),
+                    i + game.pop(),
                     Long::sum
                 );
                 // Rotate the queue back to put it in the desired state
@@ -102,6 +122,8 @@ public class Day09_MarbleMania implements Executable {
             }
         }
 
+        SolverProgress.report("marbles", totalMarbles, totalMarbles);
+
         // Get the highest score from the leaderboard
         return leaderboard
             // Get only the values as we don't care about the player
@@ -117,8 +139,8 @@ public class Day09_MarbleMania implements Executable {
     }
 
     @Value
-    private class MarbleInitialParameters {
-        private int numberOfMarbles;
+    class MarbleInitialParameters {
+        private long numberOfMarbles;
         private int numberOfPlayers;
     }
 
@@ -1,7 +1,7 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.Value;
@@ -14,22 +14,37 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-public class Day10_TheStarsAlign implements Executable {
+public class Day10_TheStarsAlign implements ParsedExecutable<Map<Day10_TheStarsAlign.Point, Day10_TheStarsAlign.Velocity>> {
+    // Set a default iteration number to 15000, as we saw that the answer to part 2 is
+    // just above 10000, we don't need to do much more
+    private static final int NUMBER_OF_ITERATIONS = 15000;
+
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(10);
-        Map<Point, Velocity> initialParameters = parseInput(inputs);
-        int iterationToLookAt = computeMovementOfPoints(initialParameters);
-        // Recompute the set of initial parameters to draw the final state
-        // because the previous computing moved the points even in the initial parameters
-        // it should not have done that because we made a new instance of the array
-        return drawIteration(parseInput(inputs), iterationToLookAt);
+        return executePartOne(parse(ChallengeHelper.readInputData(10)));
     }
 
     @Override
     public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(10);
-        Map<Point, Velocity> initialParameters = parseInput(inputs);
+        return executePartTwo(parse(ChallengeHelper.readInputData(10)));
+    }
+
+    @Override
+    public Map<Point, Velocity> parse(List<String> inputs) {
+        // Each part needs its own points as they are moved while computing
+        return parseInput(inputs);
+    }
+
+    @Override
+    public String executePartOne(Map<Point, Velocity> initialParameters) {
+        int iterationToLookAt = computeMovementOfPoints(initialParameters);
+        // Draw the state of the iteration from the current state of the points,
+        // the previous computing moved the points through all the iterations
+        return drawIteration(initialParameters, iterationToLookAt);
+    }
+
+    @Override
+    public String executePartTwo(Map<Point, Velocity> initialParameters) {
         // We add one to the number of iterations because, if the answer is
         // the iterations 10332, as the for loop starts at 0, it is actually the
         // iterations 10333
@@ -44,9 +59,7 @@ public class Day10_TheStarsAlign implements Executable {
         // Get the list of the points that will move
         List<Point> movingPoints = new ArrayList<>(initialParameters.keySet());
 
-        // Set a default iteration number to 15000, as we saw that the answer to part 2 is
-        // just above 10000, we don't need to do much more
-        for (int i = 0; i < 15000; i++) {
+        for (int i = 0; i < NUMBER_OF_ITERATIONS; i++) {
             // Move each point with its velocity
             for (Point movingPoint : movingPoints) {
                 // Had to add a uuid to each point and customized equals and hashcode because
@@ -75,12 +88,12 @@ public class Day10_TheStarsAlign implements Executable {
         // Get the points that will move
         List<Point> movingPoints = new ArrayList<>(initialParameters.keySet());
 
-        // Compute the state of the points up to the iteration we received
-        // it should be the state where the words appear
-        for (int i = 0; i < iteration + 1; i++) {
+        // The points have been moved for all the iterations, move them back to the state
+        // of the iteration we received, it should be the state where the words appear
+        for (int i = NUMBER_OF_ITERATIONS; i > iteration + 1; i--) {
             for (Point movingPoint : movingPoints) {
                 Velocity velocity = initialParameters.get(movingPoint);
-                movingPoint.move(velocity);
+                movingPoint.moveBack(velocity);
             }
         }
 
@@ -194,7 +207,7 @@ public class Day10_TheStarsAlign implements Executable {
 
     @Getter
     @Setter
-    private class Point {
+    class Point {
         private int x;
         private int y;
         private UUID id;
@@ -210,6 +223,11 @@ public class Day10_TheStarsAlign implements Executable {
             this.y += velocity.getYVelocity();
         }
 
+        void moveBack(Velocity velocity) {
+            this.x -= velocity.getXVelocity();
+            this.y -= velocity.getYVelocity();
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -225,7 +243,7 @@ public class Day10_TheStarsAlign implements Executable {
     }
 
     @Value
-    private class Velocity {
+    class Velocity {
         private int xVelocity;
         private int yVelocity;
     }
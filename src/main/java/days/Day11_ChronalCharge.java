@@ -1,30 +1,46 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
 import lombok.Value;
 
 import java.util.List;
 
-public class Day11_ChronalCharge implements Executable {
+public class Day11_ChronalCharge implements ParsedExecutable<int[][]> {
     @Override
     public String executePartOne() {
-        List<String> inputs = ChallengeHelper.readInputData(11);
+        return executePartOne(parse(ChallengeHelper.readInputData(11)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(11)));
+    }
+
+    @Override
+    public int[][] parse(List<String> inputs) {
         int gridSerialNumber = parseInput(inputs);
-        int[][] powerGrid = initializePowerGrid(gridSerialNumber);
+        return initializePowerGrid(gridSerialNumber);
+    }
+
+    @Override
+    public String executePartOne(int[][] powerGrid) {
         SumContext sumContext = findBiggestArea(powerGrid, 3, 4);
         return String.format("%d,%d", sumContext.getX(), sumContext.getY());
     }
 
     @Override
-    public String executePartTwo() {
-        List<String> inputs = ChallengeHelper.readInputData(11);
-        int gridSerialNumber = parseInput(inputs);
-        int[][] powerGrid = initializePowerGrid(gridSerialNumber);
+    public String executePartTwo(int[][] powerGrid) {
         SumContext sumContext = findBiggestArea(powerGrid, 0, powerGrid.length);
         return String.format("%d,%d,%d", sumContext.getX(), sumContext.getY(), sumContext.getSize());
     }
 
+    @Override
+    public boolean isModelShareable() {
+        // The power grid is only read by both parts
+        return true;
+    }
+
     private int parseInput(List<String> inputs) {
         // Take the first element in the list and parse it as an int, because we know the
         // input for this day is only an integer
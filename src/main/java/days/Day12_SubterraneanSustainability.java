@@ -4,7 +4,8 @@ import com.google.common.base.Functions;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
+import launcher.SolverProgress;
 import lombok.Value;
 
 import java.util.ArrayList;
@@ -17,14 +18,25 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public class Day12_SubterraneanSustainability implements Executable {
+public class Day12_SubterraneanSustainability implements ParsedExecutable<Day12_SubterraneanSustainability.ParseContext> {
     @Override
     public String executePartOne() {
-        // Parse the input file
-        List<String> inputs = ChallengeHelper.readInputData(12);
-        // Parse the input to get the rules and initial state
-        ParseContext parseContext = parseInput(inputs);
+        return executePartOne(parse(ChallengeHelper.readInputData(12)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(12)));
+    }
 
+    @Override
+    public boolean isModelShareable() {
+        // The generations are computed in new sets, the initial state is never modified
+        return true;
+    }
+
+    @Override
+    public String executePartOne(ParseContext parseContext) {
         // Initialize the currentGeneration to initialState
         Set<Integer> currentGeneration = parseContext.getInitialState();
 
@@ -38,11 +50,7 @@ public class Day12_SubterraneanSustainability implements Executable {
     }
 
     @Override
-    public String executePartTwo() {
-        // Parse the input file
-        List<String> inputs = ChallengeHelper.readInputData(12);
-        // Parse the input to get the rules and initial state
-        ParseContext parseContext = parseInput(inputs);
+    public String executePartTwo(ParseContext parseContext) {
         GenerationContext generationContext = computeNextGenerationSpecial(parseContext);
         // Return the sum of the 500 generations we computed +
         // 50_000_000_000 (which is the number of generations asked) - the number of generations
@@ -64,7 +72,8 @@ public class Day12_SubterraneanSustainability implements Executable {
             .sum();
     }
 
-    private ParseContext parseInput(List<String> inputs) {
+    @Override
+    public ParseContext parse(List<String> inputs) {
         // Parse the initial state, we know it is after the colon
         String initialState = inputs.get(0).split(":")[1].trim();
         Map<String, String> rules = new HashMap<>();
@@ -142,6 +151,7 @@ public class Day12_SubterraneanSustainability implements Executable {
             differencesWithLastGeneration.add(sumOfSet(nextGeneration) - sumOfSet(currentGeneration));
             // Assign the nextGeneration to currentGeneration and start again
             currentGeneration = nextGeneration;
+            SolverProgress.report("generations", i + 1, 500);
         }
 
         return new GenerationContext(
@@ -172,7 +182,7 @@ public class Day12_SubterraneanSustainability implements Executable {
     }
 
     @Value
-    private final class ParseContext {
+    final class ParseContext {
         private Map<String, String> rules;
         private Set<Integer> initialState;
     }
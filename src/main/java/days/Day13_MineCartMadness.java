@@ -2,7 +2,8 @@ package days;
 
 import com.google.common.collect.ImmutableMap;
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
+import launcher.SolverContext;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -18,33 +19,40 @@ import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-public class Day13_MineCartMadness implements Executable {
+public class Day13_MineCartMadness implements ParsedExecutable<Day13_MineCartMadness.ParseContext> {
     @Override
     public String executePartOne() {
-        // Get the input from the input file day 13
-        List<String> input = ChallengeHelper.readInputData(13);
+        return executePartOne(parse(ChallengeHelper.readInputData(13)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(13)));
+    }
+
+    @Override
+    public ParseContext parse(List<String> input) {
         // Find the carts in the input and return the list of carts
         List<Cart> carts = findCarts(input);
         // Remove the carts from the tracks and return the tracks as char arrays
         // because it is easier to process afterward
         List<char[]> tracks = removeCarts(input, carts);
+        // The carts are moved while solving, so each part needs its own
+        return new ParseContext(tracks, carts);
+    }
+
+    @Override
+    public String executePartOne(ParseContext parseContext) {
         // Find the location of the first crash and return the location of it
-        Point point = findFirstCrash(tracks, carts);
+        Point point = findFirstCrash(parseContext.getTracks(), parseContext.getCarts());
         // Print the location as the result
         return String.format("%s,%s", point.getX(), point.getY());
     }
 
     @Override
-    public String executePartTwo() {
-        // Get the input from the input file day 13
-        List<String> input = ChallengeHelper.readInputData(13);
-        // Find the carts in the input and return the list of carts
-        List<Cart> carts = findCarts(input);
-        // Remove the carts from the tracks and return the tracks as char arrays
-        // because it is easier to process afterward
-        List<char[]> tracks = removeCarts(input, carts);
+    public String executePartTwo(ParseContext parseContext) {
         // Find the location of the last remaining cart after the last crash and return the location of it
-        Point point = findLastCrash(tracks, carts);
+        Point point = findLastCrash(parseContext.getTracks(), parseContext.getCarts());
         // Print the location as the result
         return String.format("%s,%s", point.getX(), point.getY());
     }
@@ -143,6 +151,9 @@ public class Day13_MineCartMadness implements Executable {
     private Point findFirstCrash(List<char[]> tracks, List<Cart> carts) {
         // Infinite loop because we do not know when the "game" will finish
         while (true) {
+            // The carts may never crash, so stop when asked to
+            SolverContext.checkCancelled();
+
             // Sort the carts so the first cart to be moved is the one in the top-left most corner
             // and the last one is the in the bottom-right most corner
             carts = sortCarts(carts);
@@ -162,6 +173,9 @@ public class Day13_MineCartMadness implements Executable {
     private Point findLastCrash(List<char[]> tracks, List<Cart> carts) {
         // Infinite loop because we do not know when the "game" will finish
         while (true) {
+            // The carts may never crash, so stop when asked to
+            SolverContext.checkCancelled();
+
             // Sort the carts so the first cart to be moved is the one in the top-left most corner
             // and the last one is the in the bottom-right most corner
             carts = sortCarts(carts);
@@ -246,8 +260,14 @@ public class Day13_MineCartMadness implements Executable {
         }
     }
 
+    @Value
+    final class ParseContext {
+        private List<char[]> tracks;
+        private List<Cart> carts;
+    }
+
     @Data
-    private final class Cart {
+    final class Cart {
         private int x;
         private int y;
         // Used to identify each cart
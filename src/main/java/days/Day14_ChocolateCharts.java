@@ -1,7 +1,8 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
+import launcher.SolverProgress;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -11,23 +12,42 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class Day14_ChocolateCharts implements Executable {
+public class Day14_ChocolateCharts implements ParsedExecutable<Integer> {
     @Override
     public String executePartOne() {
-        List<String> input = ChallengeHelper.readInputData(14);
-        // Parse the integer and add 10 because we want the 10 next recipes after the numberOfRecipes
-        int numberOfRecipes = parseInput(input) + 10;
-        return convertListToString(findBestRecipes(numberOfRecipes));
+        return executePartOne(parse(ChallengeHelper.readInputData(14)));
     }
 
     @Override
     public String executePartTwo() {
-        List<String> input = ChallengeHelper.readInputData(14);
-        // Parse the integer and do not add 10 because we don't need this here
-        int numberOfRecipes = parseInput(input);
+        return executePartTwo(parse(ChallengeHelper.readInputData(14)));
+    }
+
+    @Override
+    public Integer parse(List<String> input) {
+        return parseInput(input);
+    }
+
+    @Override
+    public String executePartOne(Integer model) {
+        // Add 10 because we want the 10 next recipes after the numberOfRecipes
+        int numberOfRecipes = model + 10;
+        return convertListToString(findBestRecipes(numberOfRecipes));
+    }
+
+    @Override
+    public String executePartTwo(Integer model) {
+        // Do not add 10 because we don't need this here
+        int numberOfRecipes = model;
         return String.format("%d", findRecipesToLeft(numberOfRecipes));
     }
 
+    @Override
+    public boolean isModelShareable() {
+        // The model is only the number of recipes
+        return true;
+    }
+
     private int parseInput(List<String> input) {
         // Get only the first string from the input because we know the
         // input file is composed of only one integer on the first line
@@ -116,9 +136,16 @@ public class Day14_ChocolateCharts implements Executable {
 
         // Compute all the game states
         for (int i = 0; i < sampleSize; i++) {
+            // Tell how far the sample is every 65536 recipes
+            if ((i & 0xFFFF) == 0) {
+                SolverProgress.report("recipes", i, sampleSize);
+            }
+
             gameState = nextGameState(gameState);
         }
 
+        SolverProgress.report("recipes", sampleSize, sampleSize);
+
         // Find the pattern into this big list and return the index of it
         return Collections.indexOfSubList(gameState.getRecipes(), convertIntToListOfDigits(pattern));
     }
@@ -2,7 +2,9 @@ package days;
 
 import com.rits.cloning.Cloner;
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
+import launcher.SolverPhase;
+import launcher.SolverProgress;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
@@ -19,19 +21,31 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public class Day15_BeverageBandits implements Executable {
+public class Day15_BeverageBandits implements ParsedExecutable<Day15_BeverageBandits.GameState> {
     @Override
     public String executePartOne() {
-        List<String> input = ChallengeHelper.readInputData(15);
-        GameState initialGameState = parseInitialGameState(input);
+        return executePartOne(parse(ChallengeHelper.readInputData(15)));
+    }
+
+    @Override
+    public String executePartTwo() {
+        return executePartTwo(parse(ChallengeHelper.readInputData(15)));
+    }
+
+    @Override
+    public GameState parse(List<String> input) {
+        // The units are moved and hurt during the combat, so each part needs its own game state
+        return parseInitialGameState(input);
+    }
+
+    @Override
+    public String executePartOne(GameState initialGameState) {
         GameState endGameState = proceedToCombat(initialGameState);
         return Integer.toString(sumOfHitPoints(endGameState.getCharacters()) * endGameState.getRounds());
     }
 
     @Override
-    public String executePartTwo() {
-        List<String> input = ChallengeHelper.readInputData(15);
-        GameState initialGameState = parseInitialGameState(input);
+    public String executePartTwo(GameState initialGameState) {
         GameState endGameState = findProfitableOutcomeForElves(initialGameState);
         return Integer.toString(sumOfHitPoints(endGameState.getCharacters()) * endGameState.getRounds());
     }
@@ -129,7 +143,20 @@ public class Day15_BeverageBandits implements Executable {
         while (true) {
             // Do the combat with a deep clone of the game state to avoid modification
             // on the original object
-            GameState currentGameState = proceedToCombat(cloner.deepClone(gameState));
+            GameState clonedGameState;
+
+            try (SolverPhase phase = SolverPhase.open("clone game state")) {
+                clonedGameState = cloner.deepClone(gameState);
+            }
+
+            GameState currentGameState;
+
+            try (SolverPhase phase = SolverPhase.open(String.format("combat with attack power %d", currentAttackPower))) {
+                currentGameState = proceedToCombat(clonedGameState);
+            }
+
+            // We don't know how many attack powers we will have to try
+            SolverProgress.report("combats", currentAttackPower - 2, -1);
             // Count the elves left after the combat
             int numberOfElves = (int) countElves(currentGameState.getCharacters());
 
@@ -188,7 +215,11 @@ public class Day15_BeverageBandits implements Executable {
         List<Coordinates> openSquares = identifyOpenSquares(gameState, unit);
 
         // 2. Compute paths to the destination
-        List<Path> paths = findPaths(gameState, unit, openSquares);
+        List<Path> paths;
+
+        try (SolverPhase phase = SolverPhase.open("find paths")) {
+            paths = findPaths(gameState, unit, openSquares);
+        }
 
         // If there is no path to the destination, finish turn
         if (paths.size() == 0) {
@@ -224,7 +255,11 @@ public class Day15_BeverageBandits implements Executable {
                 // check if the adjacent coordinates is an open square (open cavern, no unit, ...)
                 if (isOpenSquare(adjacentCoordinate, gameState)) {
                     // Compute the shortest path
-                    List<Coordinates> shortestPath = findShortestPath(adjacentCoordinate, openSquare, gameState);
+                    List<Coordinates> shortestPath;
+
+                    try (SolverPhase phase = SolverPhase.open("find shortest path")) {
+                        shortestPath = findShortestPath(adjacentCoordinate, openSquare, gameState);
+                    }
 
                     // If there is no path, do not add it
                     if (shortestPath != null) {
@@ -461,7 +496,7 @@ public class Day15_BeverageBandits implements Executable {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    private final class GameState {
+    final class GameState {
         private Cave cave;
         private List<Character> characters;
         private int rounds;
@@ -1,7 +1,9 @@
 package days;
 
 import launcher.ChallengeHelper;
-import launcher.Executable;
+import launcher.ParsedExecutable;
+import launcher.NumberScanner;
+import lombok.Value;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -11,33 +13,44 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 
-public class Day16_ChronalClassification implements Executable {
+public class Day16_ChronalClassification implements ParsedExecutable<Day16_ChronalClassification.ParseContext> {
     @Override
     public String executePartOne() {
-        // Read input file
-        List<String> input = ChallengeHelper.readInputData(16);
-        // Parse part one of the input file
-        List<int[][]> puzzleInput = parsePartOneInput(input);
-        // Find the frequency of matching opcodes
-        return Integer.toString(testOpcodes(puzzleInput));
+        return executePartOne(parse(ChallengeHelper.readInputData(16)));
     }
 
     @Override
     public String executePartTwo() {
-        // Read input file
-        List<String> input = ChallengeHelper.readInputData(16);
-        // Parse part one of the input file
-        List<int[][]> puzzleInput = parsePartOneInput(input);
+        return executePartTwo(parse(ChallengeHelper.readInputData(16)));
+    }
+
+    @Override
+    public ParseContext parse(List<String> input) {
+        // Parse both parts of the input file at once
+        return new ParseContext(parsePartOneInput(input), parsePartTwoInput(input));
+    }
+
+    @Override
+    public String executePartOne(ParseContext parseContext) {
+        // Find the frequency of matching opcodes
+        return Integer.toString(testOpcodes(parseContext.getSamples()));
+    }
+
+    @Override
+    public String executePartTwo(ParseContext parseContext) {
         // Guess the opcodes from the part one input
-        Map<Integer, Integer> opcodes = guessOpcodes(puzzleInput);
-        // Then parse the part two of the input file
-        List<int[]> testInput = parsePartTwoInput(input);
+        Map<Integer, Integer> opcodes = guessOpcodes(parseContext.getSamples());
         // Compute the test program and return the value of the first register
-        return Integer.toString(executeTestProgram(testInput,opcodes)[0]);
+        return Integer.toString(executeTestProgram(parseContext.getTestProgram(), opcodes)[0]);
+    }
+
+    @Override
+    public boolean isModelShareable() {
+        // The opcodes copy the registers instead of modifying them
+        return true;
     }
-    
+
     private int testOpcodes(List<int[][]> puzzleInput) {
         // The frequency counter for the first part of the puzzle
         // to keep track of how many times there is 3 or more opcodes matching the result
@@ -262,19 +275,18 @@ public class Day16_ChronalClassification implements Executable {
     private List<int[][]> parsePartOneInput(List<String> input) {
         List<int[][]> puzzleInput = new ArrayList<>();
 
-        // In my input the first part stops at line 3173 so take a sublist from 0 to 3172 (0 based so 3173 -> 3172)
-        input = input.subList(0, 3172);
-
         // Increment by 4 every time because:
         // - the first line is the before registers
         // - the second line is the instruction
         // - the third line is the after registers
         // - the fourth line is a blank line
-        for (int i = 0; i < input.size(); i += 4) {
+        // The samples stop at the first block not starting with the before registers
+        for (int i = 0; i < input.size() && input.get(i).startsWith("Before"); i += 4) {
+            // The scanner skips everything around the numbers: "Before: [2, 2, 2, 2]" -> [2, 2, 2, 2]
             puzzleInput.add(new int[][] {
-                convertStringToIntArray(extractArray(input.get(i))),
-                convertStringToIntArray(input.get(i + 1)),
-                convertStringToIntArray(extractArray(input.get(i + 2)))
+                NumberScanner.parseInts(input.get(i)),
+                NumberScanner.parseInts(input.get(i + 1)),
+                NumberScanner.parseInts(input.get(i + 2))
             });
         }
 
@@ -284,48 +296,19 @@ public class Day16_ChronalClassification implements Executable {
     private List<int[]> parsePartTwoInput(List<String> input) {
         List<int[]> sampleProgram = new ArrayList<>();
 
-        // As there is a gap of 3 blank line starts at 3174 to the end to only get input for part 2
-        input = input.subList(3174, input.size());
+        // The program starts after the samples and the blank lines following them
+        int start = 0;
 
-        for (String line : input) {
-            sampleProgram.add(convertStringToIntArray(line));
+        while (start < input.size() && (input.get(start).startsWith("Before") || input.get(start).trim().isEmpty())) {
+            // Skip a whole sample at once, as its instruction doesn't start with before
+            start += input.get(start).startsWith("Before") ? 4 : 1;
         }
 
-        return sampleProgram;
-    }
-
-    /**
-     * https://stackoverflow.com/a/18462905/7621349
-     */
-    private String extractArray(String input) {
-        // Split on spaces and keep the limit to 2:
-        // "Before: [2, 2, 2, 2]"
-        //         ^
-        // "Before:", "[2, 2, 2, 2]"
-        return input.split(" ", 2)[1]
-            // remove opening bracket
-            // "2, 2, 2, 2]"
-            .replace("[", "")
-            // remove closing bracket
-            // "2, 2, 2, 2"
-            .replace("]", "")
-            // remove commas so every number is space separated
-            // "2 2 2 2"
-            .replace(",", "")
-            // trim because some of the entries have space as the beginning
-            .trim();
-    }
+        for (String line : input.subList(Math.min(start, input.size()), input.size())) {
+            sampleProgram.add(NumberScanner.parseInts(line));
+        }
 
-    /**
-     * https://stackoverflow.com/a/29219547/7621349
-     */
-    private int[] convertStringToIntArray(String input) {
-        // Split on spaces
-        return Stream.of(input.split(" "))
-            // Parse each string to an integer
-            .mapToInt(Integer::parseInt)
-            // convert to an array
-            .toArray();
+        return sampleProgram;
     }
 
     /**
@@ -565,4 +548,11 @@ public class Day16_ChronalClassification implements Executable {
         registers[c] = registers[a] == registers[b] ? 1 : 0;
         return registers;
     }
+
+    @Value
+    final class ParseContext {
+        // The before registers, the instruction and the after registers of each sample
+        private List<int[][]> samples;
+        private List<int[]> testProgram;
+    }
 }
@@ -3,6 +3,7 @@ package days;
 import com.google.common.primitives.Chars;
 import launcher.ChallengeHelper;
 import launcher.Executable;
+import launcher.SolverContext;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Value;
@@ -138,6 +139,8 @@ public class Day17_ReservoirResearch implements Executable {
         int hashCode = hashCode(map);
 
         while (hashCode(map) != hashCode) {
+            SolverContext.checkCancelled();
+
             boolean hasStalled = false;
             boolean isOutOfBounds = false;
             Coordinates water = generateWaterFromSpring(map);
@@ -146,6 +149,9 @@ public class Day17_ReservoirResearch implements Executable {
             water = water.down();
 
             while (!hasStalled || !isOutOfBounds) {
+                // The simulation is not finished and doesn't always end, so stop when asked to
+                SolverContext.checkCancelled();
+
                 if (water.getY() >= map.length) {
                     isOutOfBounds = true;
                 }
@@ -169,6 +175,8 @@ public class Day17_ReservoirResearch implements Executable {
 
             hashCode = hashCode(map);
         }
+
+        return map;
     }
 
     private char[][] putWaterPath(Coordinates coordinates, char[][] map) {
@@ -0,0 +1,45 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Frequency changes like "+12" or "-3", the real input has about 1000 of them
+ */
+public class Day01_ChronalCalibrationGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 1;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int count = 1000 * scale;
+        List<String> lines = new ArrayList<>(count);
+        int sum = 0;
+
+        for (int i = 0; i < count - 1; i++) {
+            int change = randomChange(random);
+            sum += change;
+            lines.add(format(change));
+        }
+
+        // The last change brings the frequency back close to 0, so each pass only drifts a little
+        // from the previous one and part two finds a frequency reached twice within a few passes
+        int drift = randomChange(random);
+        lines.add(format(drift - sum));
+
+        return lines;
+    }
+
+    private int randomChange(Random random) {
+        // Between -20 and 20 but never 0, like in the real input
+        int change = random.nextInt(20) + 1;
+        return random.nextBoolean() ? change : -change;
+    }
+
+    private String format(int change) {
+        return change >= 0 ? "+" + change : String.valueOf(change);
+    }
+}
@@ -0,0 +1,47 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Box IDs of 26 lowercase letters, the real input has 250 of them
+ */
+public class Day02_InventoryManagementSystemGenerator implements InputGenerator {
+    private static final int ID_LENGTH = 26;
+
+    @Override
+    public int getDay() {
+        return 2;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int count = 250 * scale;
+        List<String> lines = new ArrayList<>(count);
+
+        // Random IDs are very unlikely to differ by only one letter, so the two IDs found by
+        // part two are the ones added below
+        for (int i = 0; i < count - 1; i++) {
+            lines.add(randomId(random));
+        }
+
+        // Copy one of the IDs and change one of its letters
+        char[] twin = lines.get(random.nextInt(lines.size())).toCharArray();
+        int index = random.nextInt(ID_LENGTH);
+        twin[index] = (char) ('a' + (twin[index] - 'a' + 1 + random.nextInt(25)) % 26);
+        lines.add(random.nextInt(lines.size()), new String(twin));
+
+        return lines;
+    }
+
+    private String randomId(Random random) {
+        char[] id = new char[ID_LENGTH];
+
+        for (int i = 0; i < ID_LENGTH; i++) {
+            id[i] = (char) ('a' + random.nextInt(26));
+        }
+
+        return new String(id);
+    }
+}
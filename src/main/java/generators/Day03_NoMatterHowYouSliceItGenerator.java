@@ -0,0 +1,58 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Claims like "#1 @ 257,829: 10x23", the real input has about 1200 of them. The fabric of
+ * the solver is 1000 inches wide, so the claims of the bigger inputs are only denser.
+ */
+public class Day03_NoMatterHowYouSliceItGenerator implements InputGenerator {
+    private static final int FABRIC_SIZE = 1000;
+
+    @Override
+    public int getDay() {
+        return 3;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int count = 1200 * scale;
+        // The claim overlapping no other one for part two, the other claims avoid it
+        int[] intact = randomClaim(random);
+        int intactId = random.nextInt(count) + 1;
+        List<String> lines = new ArrayList<>(count);
+
+        for (int id = 1; id <= count; id++) {
+            int[] claim = intact;
+
+            if (id != intactId) {
+                do {
+                    claim = randomClaim(random);
+                } while (overlaps(claim, intact));
+            }
+
+            lines.add(String.format("#%d @ %d,%d: %dx%d", id, claim[0], claim[1], claim[2], claim[3]));
+        }
+
+        return lines;
+    }
+
+    private int[] randomClaim(Random random) {
+        // The claims are between 10 and 29 inches wide and high, like in the real input
+        int width = 10 + random.nextInt(20);
+        int height = 10 + random.nextInt(20);
+
+        return new int[] {
+            random.nextInt(FABRIC_SIZE - width),
+            random.nextInt(FABRIC_SIZE - height),
+            width,
+            height
+        };
+    }
+
+    private boolean overlaps(int[] a, int[] b) {
+        return a[0] < b[0] + b[2] && b[0] < a[0] + a[2] && a[1] < b[1] + b[3] && b[1] < a[1] + a[3];
+    }
+}
@@ -0,0 +1,60 @@
+package generators;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The records of the guards like "[1518-11-01 00:05] falls asleep", the real input has about
+ * 1100 records over 300 nights. The bigger inputs have more nights, going on after 1518.
+ */
+public class Day04_ReposeRecordGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 4;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int nights = 300 * scale;
+        // Keep about 20 guards per year of nights like the real input, so each one has enough shifts
+        int[] guardIds = new int[20 * scale];
+        List<String> lines = new ArrayList<>();
+
+        for (int i = 0; i < guardIds.length; i++) {
+            guardIds[i] = 10 + random.nextInt(3500);
+        }
+
+        LocalDate night = LocalDate.of(1518, 1, 1);
+
+        for (int i = 0; i < nights; i++) {
+            int guardId = guardIds[random.nextInt(guardIds.length)];
+
+            // The shift begins a bit before or after midnight
+            if (random.nextBoolean()) {
+                lines.add(String.format("[%s 23:%02d] Guard #%d begins shift", night, 45 + random.nextInt(15), guardId));
+            } else {
+                lines.add(String.format("[%s 00:%02d] Guard #%d begins shift", night.plusDays(1), random.nextInt(5), guardId));
+            }
+
+            night = night.plusDays(1);
+
+            // Then the guard falls asleep and wakes up a few times during the midnight hour
+            int minute = 5 + random.nextInt(10);
+
+            while (minute < 58 && random.nextInt(4) != 0) {
+                int wakeUp = minute + 1 + random.nextInt(59 - minute);
+                lines.add(String.format("[%s 00:%02d] falls asleep", night, minute));
+                lines.add(String.format("[%s 00:%02d] wakes up", night, wakeUp));
+                minute = wakeUp + 1 + random.nextInt(10);
+            }
+        }
+
+        // The records of the real input are not in order
+        Collections.shuffle(lines, random);
+
+        return lines;
+    }
+}
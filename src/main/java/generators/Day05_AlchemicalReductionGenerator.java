@@ -0,0 +1,29 @@
+package generators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A single polymer of units, the real input has 50000 of them. The units are random letters of
+ * random polarity, so a good part of the polymer reacts away like in the real input.
+ */
+public class Day05_AlchemicalReductionGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 5;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int length = 50_000 * scale;
+        StringBuilder polymer = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            char type = (char) ('a' + random.nextInt(26));
+            polymer.append(random.nextBoolean() ? type : Character.toUpperCase(type));
+        }
+
+        return Collections.singletonList(polymer.toString());
+    }
+}
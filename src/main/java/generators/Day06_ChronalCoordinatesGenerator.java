@@ -0,0 +1,32 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Coordinates like "118, 274", the real input has 50 of them in a square of about 360 by 360.
+ * The square grows with the number of coordinates so they keep the same density.
+ */
+public class Day06_ChronalCoordinatesGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 6;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int count = 50 * scale;
+        int size = (int) (360 * Math.sqrt(scale));
+        // Two coordinates can't be at the same place
+        Set<String> coordinates = new LinkedHashSet<>();
+
+        while (coordinates.size() < count) {
+            coordinates.add(String.format("%d, %d", 40 + random.nextInt(size), 40 + random.nextInt(size)));
+        }
+
+        return new ArrayList<>(coordinates);
+    }
+}
@@ -0,0 +1,61 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Instructions like "Step C must be finished before step A can begin.", the real input links
+ * the 26 steps A to Z with 100 instructions. The bigger inputs name their steps with several
+ * letters (AA, AB...) as the solver only reads the first letter to know how long a step takes.
+ */
+public class Day07_TheSumOfItsPartsGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 7;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int count = 26 * scale;
+        List<String> steps = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            steps.add(name(i));
+        }
+
+        // The steps are only linked to the steps after them in this order, so there is no cycle
+        Collections.shuffle(steps, random);
+
+        List<String> lines = new ArrayList<>();
+
+        for (int i = 1; i < count; i++) {
+            // Every step but the first has at least one step before it, and about 4 on average
+            int parents = 1 + random.nextInt(Math.min(i, 7));
+
+            for (int parent : random.ints(0, i).distinct().limit(parents).toArray()) {
+                lines.add(String.format(
+                    "Step %s must be finished before step %s can begin.",
+                    steps.get(parent),
+                    steps.get(i)
+                ));
+            }
+        }
+
+        Collections.shuffle(lines, random);
+
+        return lines;
+    }
+
+    private String name(int index) {
+        // A, B, ..., Z, AA, AB, ... like the columns of a spreadsheet
+        StringBuilder name = new StringBuilder();
+
+        for (int i = index + 1; i > 0; i = (i - 1) / 26) {
+            name.insert(0, (char) ('A' + (i - 1) % 26));
+        }
+
+        return name.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package generators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The license tree as a single line of numbers, the real input has about 16000 numbers for
+ * 2000 nodes. Each node has its number of children, its number of metadata entries, its children
+ * and its metadata entries.
+ */
+public class Day08_MemoryManeuverGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 8;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        StringBuilder tree = new StringBuilder();
+        appendNode(tree, 2000 * scale, random);
+        // Remove the space after the last number
+        tree.setLength(tree.length() - 1);
+
+        return Collections.singletonList(tree.toString());
+    }
+
+    private void appendNode(StringBuilder tree, int nodes, Random random) {
+        // The nodes of the subtree are split between 2 to 7 children, so the tree stays shallow
+        // enough for the recursion of the solver
+        int childCount = nodes == 1 ? 0 : Math.min(nodes - 1, 2 + random.nextInt(6));
+        int metadataCount = 1 + random.nextInt(11);
+
+        tree.append(childCount).append(' ').append(metadataCount).append(' ');
+
+        for (int childNodes : split(nodes - 1, childCount, random)) {
+            appendNode(tree, childNodes, random);
+        }
+
+        for (int i = 0; i < metadataCount; i++) {
+            // The entries are also the indices of the children for part two, some of them
+            // point to children that don't exist like in the real input
+            tree.append(1 + random.nextInt(9)).append(' ');
+        }
+    }
+
+    private int[] split(int total, int parts, Random random) {
+        if (parts == 0) {
+            return new int[0];
+        }
+
+        // Nothing to cut, and there would be no place to cut a single node anyway
+        if (parts == 1) {
+            return new int[]{total};
+        }
+
+        // Cut the total at random places, each part having at least one node
+        int[] cuts = random.ints(1, total).distinct().limit(parts - 1).sorted().toArray();
+        int[] sizes = new int[parts];
+        int previous = 0;
+
+        for (int i = 0; i < cuts.length; i++) {
+            sizes[i] = cuts[i] - previous;
+            previous = cuts[i];
+        }
+
+        sizes[parts - 1] = total - previous;
+
+        return sizes;
+    }
+}
@@ -0,0 +1,27 @@
+package generators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A single line like "404 players; last marble is worth 71852 points", the bigger inputs
+ * have a last marble worth more points. Part two multiplies it by 100 again.
+ */
+public class Day09_MarbleManiaGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 9;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int players = 400 + random.nextInt(100);
+        // A long as a big scale gives more marbles than an int can count
+        long lastMarble = (70000L + random.nextInt(5000)) * scale;
+
+        return Collections.singletonList(
+            String.format("%d players; last marble is worth %d points", players, lastMarble)
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Points like "position=< 10476,  31130> velocity=<-1, -3>", the real input has about 300 of
+ * them which draw a message 10 rows high and 62 columns wide after about 10000 seconds. The
+ * bigger inputs draw a longer message with more points.
+ */
+public class Day10_TheStarsAlignGenerator implements InputGenerator {
+    private static final int MESSAGE_HEIGHT = 10;
+
+    @Override
+    public int getDay() {
+        return 10;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int count = 300 * scale;
+        int messageWidth = 62 * scale;
+        // The solver looks at the first 15000 seconds
+        int secondsToMessage = 10000 + random.nextInt(2000);
+        List<String> lines = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            // Where the point is in the message, the first two points are on the first and last
+            // rows so the message is as high as expected
+            int x = random.nextInt(messageWidth);
+            int y = i < 2 ? i * (MESSAGE_HEIGHT - 1) : random.nextInt(MESSAGE_HEIGHT);
+            int velocityX = random.nextInt(11) - 5;
+            // Every point moves vertically, so the message is the only moment they are this close
+            int velocityY = (random.nextInt(5) + 1) * (random.nextBoolean() ? 1 : -1);
+
+            // Move the point back from its place in the message
+            lines.add(String.format(
+                "position=<%6d, %6d> velocity=<%2d, %2d>",
+                x - velocityX * secondsToMessage,
+                y - velocityY * secondsToMessage,
+                velocityX,
+                velocityY
+            ));
+        }
+
+        return lines;
+    }
+}
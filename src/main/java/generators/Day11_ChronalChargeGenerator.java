@@ -0,0 +1,21 @@
+package generators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A grid serial number, the size of the grid is fixed to 300 by 300 by the puzzle so the
+ * scale can't make the input bigger. Only the serial number changes.
+ */
+public class Day11_ChronalChargeGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 11;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        return Collections.singletonList(String.valueOf(1000 + random.nextInt(9000)));
+    }
+}
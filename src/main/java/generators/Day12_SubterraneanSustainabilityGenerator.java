@@ -0,0 +1,54 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * An initial state of pots followed by the 32 rules, the real initial state has 100 pots.
+ * <p>
+ * The solver expects the plants to end up moving at a steady pace, which random rules rarely
+ * do. The rules generated move each plant one pot to the right every generation, so the pattern
+ * is steady from the start and the random initial state is what changes between the inputs.
+ */
+public class Day12_SubterraneanSustainabilityGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 12;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int pots = 100 * scale;
+        StringBuilder initialState = new StringBuilder(pots);
+
+        for (int i = 0; i < pots; i++) {
+            initialState.append(random.nextBoolean() ? '#' : '.');
+        }
+
+        List<String> lines = new ArrayList<>(34);
+        lines.add("initial state: " + initialState);
+        lines.add("");
+
+        // The 32 patterns of 5 pots, in a random order like in the real input
+        List<String> rules = new ArrayList<>(32);
+
+        for (int pattern = 0; pattern < 32; pattern++) {
+            StringBuilder rule = new StringBuilder(10);
+
+            for (int bit = 4; bit >= 0; bit--) {
+                rule.append((pattern >> bit & 1) == 1 ? '#' : '.');
+            }
+
+            // The pot gets the plant of the pot on its left
+            rule.append(" => ").append(rule.charAt(1));
+            rules.add(rule.toString());
+        }
+
+        Collections.shuffle(rules, random);
+        lines.addAll(rules);
+
+        return lines;
+    }
+}
@@ -0,0 +1,84 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A map of tracks with carts, the real input is 150 by 150 with 17 carts.
+ * <p>
+ * The tracks are separate loops laid on a grid. Each loop has two carts going towards each
+ * other on its top side, except one loop with a single cart. So the pairs all crash and a
+ * single cart is left, which is what the solver waits for.
+ */
+public class Day13_MineCartMadnessGenerator implements InputGenerator {
+    // The size of the cell of the grid in which each loop is drawn
+    private static final int CELL_SIZE = 18;
+
+    @Override
+    public int getDay() {
+        return 13;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int loops = 9 * scale;
+        int columns = (int) Math.ceil(Math.sqrt(loops));
+        int rows = (loops + columns - 1) / columns;
+        char[][] map = new char[rows * CELL_SIZE][columns * CELL_SIZE];
+        int loneCartLoop = random.nextInt(loops);
+
+        for (char[] line : map) {
+            Arrays.fill(line, ' ');
+        }
+
+        for (int loop = 0; loop < loops; loop++) {
+            // A random rectangle inside the cell, at least 5 wide to fit two carts on its top
+            int width = 5 + random.nextInt(CELL_SIZE - 6);
+            int height = 3 + random.nextInt(CELL_SIZE - 4);
+            int left = (loop % columns) * CELL_SIZE + random.nextInt(CELL_SIZE - width);
+            int top = (loop / columns) * CELL_SIZE + random.nextInt(CELL_SIZE - height);
+            int right = left + width - 1;
+            int bottom = top + height - 1;
+
+            drawLoop(map, left, top, right, bottom);
+
+            // Somewhere on the top side between the corners, the right cart after the left one
+            int leftCart = left + 1 + random.nextInt(width - 3);
+            int rightCart = leftCart + 1 + random.nextInt(right - leftCart - 1);
+
+            if (loop == loneCartLoop) {
+                map[top][leftCart] = '>';
+            } else {
+                map[top][leftCart] = '>';
+                map[top][rightCart] = '<';
+            }
+        }
+
+        List<String> lines = new ArrayList<>(map.length);
+
+        for (char[] line : map) {
+            lines.add(new String(line));
+        }
+
+        return lines;
+    }
+
+    private void drawLoop(char[][] map, int left, int top, int right, int bottom) {
+        for (int x = left + 1; x < right; x++) {
+            map[top][x] = '-';
+            map[bottom][x] = '-';
+        }
+
+        for (int y = top + 1; y < bottom; y++) {
+            map[y][left] = '|';
+            map[y][right] = '|';
+        }
+
+        map[top][left] = '/';
+        map[top][right] = '\\';
+        map[bottom][left] = '\\';
+        map[bottom][right] = '/';
+    }
+}
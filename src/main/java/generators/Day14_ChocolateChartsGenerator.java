@@ -0,0 +1,22 @@
+package generators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A number of recipes, the real input has 6 digits. The number is multiplied by the scale, so
+ * part one makes as many more recipes. Part two looks for the digits of the number, each digit
+ * added makes the search about 10 times longer.
+ */
+public class Day14_ChocolateChartsGenerator implements InputGenerator {
+    @Override
+    public int getDay() {
+        return 14;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        return Collections.singletonList(String.valueOf((100_000 + random.nextInt(900_000)) * scale));
+    }
+}
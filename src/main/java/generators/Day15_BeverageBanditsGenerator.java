@@ -0,0 +1,117 @@
+package generators;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A cave with goblins and elves, the real input is 32 by 32 with 30 units. The bigger caves keep
+ * the same density of walls and units.
+ * <p>
+ * The combat only ends when every unit can reach its enemies, so only the largest open area of
+ * the cave is kept and the units are all put in it.
+ */
+public class Day15_BeverageBanditsGenerator implements InputGenerator {
+    private static final double WALL_DENSITY = 0.15;
+
+    @Override
+    public int getDay() {
+        return 15;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int size = (int) Math.round(32 * Math.sqrt(scale));
+        char[][] cave = new char[size][size];
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                cave[y][x] = border || random.nextDouble() < WALL_DENSITY ? '#' : '.';
+            }
+        }
+
+        List<int[]> openArea = keepLargestOpenArea(cave);
+
+        // Put the units on random cells of the open area, the real input has about as many of each
+        int units = Math.min(30 * scale, openArea.size());
+
+        for (int i = 0; i < units; i++) {
+            int index = i + random.nextInt(openArea.size() - i);
+            int[] cell = openArea.get(index);
+            openArea.set(index, openArea.get(i));
+            openArea.set(i, cell);
+            cave[cell[1]][cell[0]] = random.nextBoolean() ? 'G' : 'E';
+        }
+
+        List<String> lines = new ArrayList<>(size);
+
+        for (char[] line : cave) {
+            lines.add(new String(line));
+        }
+
+        return lines;
+    }
+
+    private List<int[]> keepLargestOpenArea(char[][] cave) {
+        boolean[][] visited = new boolean[cave.length][cave.length];
+        List<int[]> largest = new ArrayList<>();
+
+        for (int y = 0; y < cave.length; y++) {
+            for (int x = 0; x < cave.length; x++) {
+                if (cave[y][x] == '.' && !visited[y][x]) {
+                    List<int[]> area = floodFill(cave, visited, x, y);
+
+                    if (area.size() > largest.size()) {
+                        largest = area;
+                    }
+                }
+            }
+        }
+
+        // Wall up every open cell outside of the largest area
+        boolean[][] kept = new boolean[cave.length][cave.length];
+
+        for (int[] cell : largest) {
+            kept[cell[1]][cell[0]] = true;
+        }
+
+        for (int y = 0; y < cave.length; y++) {
+            for (int x = 0; x < cave.length; x++) {
+                if (!kept[y][x]) {
+                    cave[y][x] = '#';
+                }
+            }
+        }
+
+        return largest;
+    }
+
+    private List<int[]> floodFill(char[][] cave, boolean[][] visited, int startX, int startY) {
+        List<int[]> area = new ArrayList<>();
+        Deque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{startX, startY});
+        visited[startY][startX] = true;
+
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            area.add(cell);
+
+            for (int[] neighbour : new int[][]{
+                {cell[0], cell[1] - 1}, {cell[0] - 1, cell[1]}, {cell[0] + 1, cell[1]}, {cell[0], cell[1] + 1}
+            }) {
+                int x = neighbour[0];
+                int y = neighbour[1];
+
+                if (cave[y][x] == '.' && !visited[y][x]) {
+                    visited[y][x] = true;
+                    queue.add(neighbour);
+                }
+            }
+        }
+
+        return area;
+    }
+}
@@ -0,0 +1,97 @@
+package generators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Samples of instructions followed by a test program, the real input has about 800 samples and
+ * 900 instructions in its program. The opcode numbers are given to the 16 operations in a
+ * random order, and each sample is the result of its instruction on random registers.
+ */
+public class Day16_ChronalClassificationGenerator implements InputGenerator {
+    private static final int OPERATIONS = 16;
+
+    @Override
+    public int getDay() {
+        return 16;
+    }
+
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int samples = 800 * scale;
+        int instructions = 900 * scale;
+        List<String> lines = new ArrayList<>(samples * 4 + 2 + instructions);
+
+        // The operation run by each opcode number
+        List<Integer> operations = new ArrayList<>(OPERATIONS);
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            operations.add(i);
+        }
+
+        Collections.shuffle(operations, random);
+
+        for (int i = 0; i < samples; i++) {
+            int[] before = {random.nextInt(4), random.nextInt(4), random.nextInt(4), random.nextInt(4)};
+            int[] instruction = randomInstruction(random);
+            int[] after = apply(operations.get(instruction[0]), before, instruction);
+
+            lines.add("Before: " + Arrays.toString(before));
+            lines.add(formatInstruction(instruction));
+            lines.add("After:  " + Arrays.toString(after));
+            lines.add("");
+        }
+
+        // Three blank lines between the samples and the program, like in the real input
+        lines.add("");
+        lines.add("");
+
+        for (int i = 0; i < instructions; i++) {
+            lines.add(formatInstruction(randomInstruction(random)));
+        }
+
+        return lines;
+    }
+
+    private int[] randomInstruction(Random random) {
+        // The values and the registers are all between 0 and 3, so any of them can be a register
+        return new int[]{random.nextInt(OPERATIONS), random.nextInt(4), random.nextInt(4), random.nextInt(4)};
+    }
+
+    private String formatInstruction(int[] instruction) {
+        return String.format("%d %d %d %d", instruction[0], instruction[1], instruction[2], instruction[3]);
+    }
+
+    private int[] apply(int operation, int[] before, int[] instruction) {
+        int[] registers = before.clone();
+        int a = instruction[1];
+        int b = instruction[2];
+
+        // In the order of the puzzle: addr, addi, mulr, muli, banr, bani, borr, bori, setr, seti,
+        // gtir, gtri, gtrr, eqir, eqri, eqrr
+        int[] results = {
+            before[a] + before[b],
+            before[a] + b,
+            before[a] * before[b],
+            before[a] * b,
+            before[a] & before[b],
+            before[a] & b,
+            before[a] | before[b],
+            before[a] | b,
+            before[a],
+            a,
+            a > before[b] ? 1 : 0,
+            before[a] > b ? 1 : 0,
+            before[a] > before[b] ? 1 : 0,
+            a == before[b] ? 1 : 0,
+            before[a] == b ? 1 : 0,
+            before[a] == before[b] ? 1 : 0
+        };
+
+        registers[instruction[3]] = results[operation];
+        return registers;
+    }
+}
@@ -0,0 +1,70 @@
+package generators;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.ServiceLoader;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Find the generator of each day in the service file META-INF/services/generators.InputGenerator
+ */
+@UtilityClass
+public class Generators {
+    // Loaded lazily and only once, from the day to its generator
+    private volatile SortedMap<Integer, InputGenerator> generators;
+
+    /**
+     * @return The days which have a generator, in ascending order
+     */
+    public SortedSet<Integer> getAvailableDays() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(getGenerators().keySet()));
+    }
+
+    /**
+     * Generate an input for a day
+     * @param day The day of the challenge
+     * @param scale How many times bigger than the real input the generated one should be
+     * @param seed The seed of the randomness, the same seed always gives the same input
+     * @return The lines of the input
+     * @throws IllegalArgumentException If the day has no generator or the scale is not positive
+     */
+    public List<String> generate(int day, int scale, long seed) {
+        InputGenerator generator = getGenerators().get(day);
+
+        if (generator == null) {
+            throw new IllegalArgumentException(String.format("There is no generator for day %02d.", day));
+        }
+
+        if (scale < 1) {
+            throw new IllegalArgumentException(String.format("The scale must be positive, not %d.", scale));
+        }
+
+        return generator.generate(scale, new Random(seed));
+    }
+
+    private SortedMap<Integer, InputGenerator> getGenerators() {
+        // Double checked locking so the generators are loaded once even when asked from multiple threads
+        if (generators == null) {
+            synchronized (Generators.class) {
+                if (generators == null) {
+                    SortedMap<Integer, InputGenerator> loaded = new TreeMap<>();
+
+                    for (InputGenerator generator : ServiceLoader.load(InputGenerator.class)) {
+                        // The first generator found wins, like the first class found on the classpath
+                        loaded.putIfAbsent(generator.getDay(), generator);
+                    }
+
+                    generators = Collections.unmodifiableSortedMap(loaded);
+                }
+            }
+        }
+
+        return generators;
+    }
+}
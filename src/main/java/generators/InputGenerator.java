@@ -0,0 +1,24 @@
+package generators;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generate inputs for a day, bigger than the real ones, to see how its solver scales.
+ * The generated inputs follow the format of the real ones and have an answer for both parts.
+ */
+public interface InputGenerator {
+    /**
+     * @return The day of the challenge the inputs are generated for
+     */
+    int getDay();
+
+    /**
+     * Generate the lines of an input
+     * @param scale How many times bigger than the real input the generated one should be,
+     *              1 gives an input of about the size of the real one
+     * @param random The source of randomness, the same seed always gives the same input
+     * @return The lines of the input
+     */
+    List<String> generate(int scale, Random random);
+}
@@ -0,0 +1,331 @@
+package launcher;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Keep the answers on the disk so a part is not solved again for an input it already solved.
+ * An answer is found with the day, the part, the version of the solver and the hash of the input.
+ * <p>
+ * The answers are appended to a single file, answers.store next to the input directory by default
+ * (it can be changed with the system property "aoc.answerStore.path"):
+ * <pre>
+ * header: "AOCA" | version (int)
+ * record: length of the payload (int) | payload | CRC32 of the payload (int)
+ * payload: day (byte) | part (byte) | solver version (long) | SHA-256 of the input (32 bytes) | answer (UTF-8)
+ * </pre>
+ * The solver version is a hash of the bytes of the solver with all its nested and anonymous classes,
+ * and of the helpers of the launcher it may use.
+ * The file is read through a memory mapping and only the records appended since the last read are
+ * scanned. A record is written in a single write while holding a lock on the file, and the CRC lets
+ * the readers ignore a record that was only partially written.
+ */
+@UtilityClass
+class AnswerStore {
+    private final int MAGIC = 0x414F4341; // "AOCA"
+    private final int FORMAT_VERSION = 1;
+    private final int HEADER_BYTES = 8;
+    // Day, part, solver version and input hash
+    private final int KEY_BYTES = 1 + 1 + 8 + 32;
+
+    private final Path path = Paths.get(System.getProperty("aoc.answerStore.path", "answers.store"));
+
+    private volatile boolean enabled = true;
+
+    // The answers read from the file so far and where the next record to read starts
+    private final Map<AnswerKey, String> answers = new HashMap<>();
+    private long scannedBytes = 0;
+
+    // The version of each solver, computed once from the bytes of its class
+    private final Map<Class<?>, Long> solverVersions = new ConcurrentHashMap<>();
+    private final List<Class<?>> SOLVER_HELPERS = Arrays.asList(
+        ChallengeHelper.class,
+        Executable.class,
+        MappedInput.class,
+        NumberScanner.class,
+        ParsedExecutable.class,
+        SolverContext.class,
+        SolverPhase.class,
+        SolverProgress.class
+    );
+
+    /**
+     * Use or bypass the store, e.g. to measure the parts when benchmarking
+     * @param storeEnabled false to always solve the parts and never write their answers
+     */
+    void setEnabled(boolean storeEnabled) {
+        enabled = storeEnabled;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hash the lines of an input. The lines are hashed rather than the bytes of the file so the
+     * inputs sent inline to the daemon share the answers of the files, whatever the line endings.
+     * @param lines The lines of the input
+     * @return The SHA-256 of the lines, each one followed by a new line
+     */
+    HashCode hashInput(List<String> lines) {
+        Hasher hasher = Hashing.sha256().newHasher();
+
+        for (String line : lines) {
+            hasher.putString(line, StandardCharsets.UTF_8);
+            hasher.putByte((byte) '\n');
+        }
+
+        return hasher.hash();
+    }
+
+    /**
+     * @param solver The class of the executable solving the part
+     * @param day The day of the challenge
+     * @param part The part of the day
+     * @param inputHash The hash of the input given by hashInput
+     * @return The answer stored for this input, null if the part has not been solved for it
+     */
+    synchronized String find(Class<?> solver, int day, int part, HashCode inputHash) {
+        if (!enabled) {
+            return null;
+        }
+
+        // Another launcher may have written some answers since the last time
+        scan();
+
+        return answers.get(new AnswerKey(day, part, getSolverVersion(solver), inputHash));
+    }
+
+    /**
+     * Append an answer to the store
+     * @param solver The class of the executable which solved the part
+     * @param day The day of the challenge
+     * @param part The part of the day
+     * @param inputHash The hash of the input given by hashInput
+     * @param answer The answer of the part
+     */
+    @SneakyThrows
+    synchronized void save(Class<?> solver, int day, int part, HashCode inputHash, String answer) {
+        if (!enabled) {
+            return;
+        }
+
+        AnswerKey key = new AnswerKey(day, part, getSolverVersion(solver), inputHash);
+        byte[] answerBytes = answer.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(4 + KEY_BYTES + answerBytes.length + 4);
+
+        record.putInt(KEY_BYTES + answerBytes.length);
+        record.put((byte) key.getDay());
+        record.put((byte) key.getPart());
+        record.putLong(key.getSolverVersion());
+        record.put(key.getInputHash().asBytes());
+        record.put(answerBytes);
+        record.putInt(crc(record.array(), 4, KEY_BYTES + answerBytes.length));
+        record.flip();
+
+        try (
+            FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            // Only one launcher appends at a time, the lock is released with the channel
+            FileLock lock = channel.lock()
+        ) {
+            // Read what the others appended, and drop what a crashed launcher may have left half written
+            scan(channel);
+
+            // A new file, or one whose header was cut by a crash
+            if (scannedBytes < HEADER_BYTES) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION);
+                header.flip();
+                channel.truncate(0);
+                writeFully(channel, header, 0);
+                scannedBytes = HEADER_BYTES;
+            }
+
+            if (channel.size() > scannedBytes) {
+                channel.truncate(scannedBytes);
+            }
+
+            writeFully(channel, record, scannedBytes);
+            scannedBytes += record.limit();
+        }
+
+        answers.put(key, answer);
+    }
+
+    private void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    @SneakyThrows
+    private void scan() {
+        if (!Files.exists(path) || Files.size(path) == scannedBytes) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            scan(channel);
+        }
+    }
+
+    @SneakyThrows
+    private void scan(FileChannel channel) {
+        long size = channel.size();
+
+        // The file has been deleted or replaced, start again from its beginning
+        if (size < scannedBytes) {
+            answers.clear();
+            scannedBytes = 0;
+        }
+
+        if (size <= scannedBytes) {
+            return;
+        }
+
+        if (scannedBytes == 0) {
+            if (size < HEADER_BYTES) {
+                return;
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IllegalStateException(String.format("%s is not an answer store of this version.", path));
+            }
+
+            scannedBytes = HEADER_BYTES;
+        }
+
+        // Only map what has been appended since the last scan
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, scannedBytes, size - scannedBytes);
+
+        while (buffer.remaining() >= 4) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+
+            // A record cut by a crash, or not fully written yet by another launcher
+            if (length < KEY_BYTES || buffer.remaining() < length + 4) {
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+
+            if (buffer.getInt() != crc(payload, 0, length)) {
+                break;
+            }
+
+            ByteBuffer fields = ByteBuffer.wrap(payload);
+            int day = fields.get();
+            int part = fields.get();
+            long solverVersion = fields.getLong();
+            byte[] inputHash = new byte[32];
+            fields.get(inputHash);
+            String answer = new String(payload, KEY_BYTES, length - KEY_BYTES, StandardCharsets.UTF_8);
+
+            answers.put(new AnswerKey(day, part, solverVersion, HashCode.fromBytes(inputHash)), answer);
+            scannedBytes += buffer.position() - start;
+        }
+    }
+
+    private int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private long getSolverVersion(Class<?> solver) {
+        // Any change to the code of the solver gives another version, so its old answers are not used
+        return solverVersions.computeIfAbsent(solver, AnswerStore::hashSolver);
+    }
+
+    private long hashSolver(Class<?> solver) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putClass(hasher, solver);
+
+        // The answer also depends on the helpers of the launcher used by the solvers
+        for (Class<?> helper : SOLVER_HELPERS) {
+            putClass(hasher, helper);
+        }
+
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * Hash the bytes of a class, of its nested classes and of its anonymous classes, which are all
+     * compiled to files of their own
+     */
+    private void putClass(Hasher hasher, Class<?> type) {
+        putClassBytes(hasher, type.getClassLoader(), type.getName(), true);
+
+        // The anonymous classes aren't declared classes, they are numbered from 1 by the compiler
+        int anonymous = 1;
+        while (putClassBytes(hasher, type.getClassLoader(), type.getName() + "$" + anonymous, false)) {
+            anonymous++;
+        }
+
+        // Sorted so the hash doesn't depend on the order given by the reflection
+        Arrays.stream(type.getDeclaredClasses())
+            .sorted(Comparator.comparing(Class::getName))
+            .forEach(nested -> putClass(hasher, nested));
+    }
+
+    /**
+     * @return Whether the class exists
+     */
+    @SneakyThrows
+    private boolean putClassBytes(Hasher hasher, ClassLoader classLoader, String name, boolean required) {
+        String resource = name.replace('.', '/') + ".class";
+
+        try (InputStream classBytes = classLoader.getResourceAsStream(resource)) {
+            if (classBytes == null) {
+                if (required) {
+                    throw new IllegalStateException(String.format("Can't read the bytes of %s.", name));
+                }
+
+                return false;
+            }
+
+            hasher.putUnencodedChars(name);
+            hasher.putBytes(ByteStreams.toByteArray(classBytes));
+            return true;
+        }
+    }
+
+    @Value
+    private class AnswerKey {
+        private int day;
+        private int part;
+        private long solverVersion;
+        private HashCode inputHash;
+    }
+}
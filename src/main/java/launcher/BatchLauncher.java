@@ -0,0 +1,166 @@
+package launcher;
+
+import com.google.common.base.Suppliers;
+import generators.Generators;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@UtilityClass
+class BatchLauncher {
+    /**
+     * Run all the parts of all the days given in the options on a thread pool and print
+     * a table with the answers and the time each part took
+     * @param options The options given to the launcher
+     * @return The results in the order of the days and parts given in the options
+     */
+    List<ExecutionResult> run(LauncherOptions options) {
+        ExecutionBackend backend = options.createBackend();
+        ConsoleProgress progress = ConsoleProgress.create();
+        List<CompletableFuture<ExecutionResult>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try {
+            // Submit everything first so the pool is kept busy, the parts of a day are submitted
+            // together so its input can be parsed once for both of them
+            for (int day : options.getDays()) {
+                futures.addAll(Launcher.executeAsync(day, options.getParts(), getInput(options, day), backend, progress));
+            }
+
+            List<ExecutionResult> results = new ArrayList<>();
+
+            // Then wait for the results in the submission order to keep the table sorted
+            for (CompletableFuture<ExecutionResult> future : futures) {
+                results.add(future.join());
+            }
+
+            progress.clear();
+
+            printTable(results, System.nanoTime() - start, backend.getName(), options.getThreads());
+
+            return results;
+        } finally {
+            backend.close();
+        }
+    }
+
+    private Supplier<List<String>> getInput(LauncherOptions options, int day) {
+        // Null to read the input file of the day
+        if (!options.isGenerated()) {
+            return null;
+        }
+
+        // Generated once for both the hash of the answer store and the parsing
+        return Suppliers.memoize(() -> Generators.generate(day, options.getGeneratedScale(), options.getSeed()))::get;
+    }
+
+    private void printTable(List<ExecutionResult> results, long totalNanos, String backendName, int threads) {
+        // Answers spanning multiple lines (like the drawing of day 10) can't fit in a cell,
+        // so they are printed after the table
+        List<ExecutionResult> multiLineResults = new ArrayList<>();
+        List<String> answers = new ArrayList<>();
+
+        for (ExecutionResult result : results) {
+            if (!result.isSuccessful()) {
+                answers.add("ERROR: " + result.getError());
+            } else if (result.getAnswer() != null && result.getAnswer().contains("\n")) {
+                multiLineResults.add(result);
+                answers.add("(see below)");
+            } else {
+                answers.add(String.valueOf(result.getAnswer()));
+            }
+        }
+
+        int answerWidth = answers.stream().mapToInt(String::length).max().orElse(0);
+        answerWidth = Math.max(answerWidth, "Answer".length());
+
+        String format = "%-3s | %-4s | %-" + answerWidth + "s | %12s | %12s | %12s | %10s | %14s%n";
+
+        System.out.printf(format, "Day", "Part", "Answer", "Parse", "Time", "CPU", "Allocated", "GC");
+        System.out.print(String.format(format, "", "", "", "", "", "", "", "").replace(' ', '-').replace('|', '+'));
+
+        for (int i = 0; i < results.size(); i++) {
+            ExecutionResult result = results.get(i);
+            ExecutionMetrics metrics = result.getMetrics();
+            // The parsing is part of the cost of the part, even when it has been done separately
+            ExecutionMetrics totalMetrics = result.getParseMetrics() != null
+                ? result.getParseMetrics().plus(metrics)
+                : metrics;
+
+            System.out.printf(
+                format,
+                String.format("%02d", result.getDay()),
+                result.getPart(),
+                answers.get(i),
+                formatParse(result),
+                formatNanos(metrics.getWallTimeNanos()),
+                formatNanos(totalMetrics.getCpuTimeNanos()),
+                formatBytes(totalMetrics.getAllocatedBytes()),
+                formatGc(totalMetrics)
+            );
+        }
+
+        System.out.printf(
+            "%nRan %d parts on the %s backend with %d threads in %s (%.2f jobs/s)%n",
+            results.size(),
+            backendName,
+            threads,
+            formatNanos(totalNanos),
+            // The throughput, to compare the backends on the same days
+            results.size() / (totalNanos / 1_000_000_000.0)
+        );
+
+        // How fast the long loops went, for the parts which reported their progress
+        for (ExecutionResult result : results) {
+            if (result.getProgress() != null) {
+                System.out.printf(
+                    "%nDay %02d Part %d went through %s",
+                    result.getDay(),
+                    result.getPart(),
+                    result.getProgress().describe()
+                );
+            }
+        }
+
+        if (results.stream().anyMatch(result -> result.getProgress() != null)) {
+            System.out.println();
+        }
+
+        for (ExecutionResult result : multiLineResults) {
+            System.out.printf("%nDay %02d Part %d:%s%n", result.getDay(), result.getPart(), result.getAnswer());
+        }
+    }
+
+    String formatNanos(long nanos) {
+        // Negative when the JVM can't measure it
+        if (nanos < 0) {
+            return "n/a";
+        }
+
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+
+    private String formatParse(ExecutionResult result) {
+        if (result.isStored()) {
+            return "stored";
+        }
+
+        // Nothing to show when the parsing is done inside the part
+        return result.getParseMetrics() != null ? formatNanos(result.getParseTimeNanos()) : "-";
+    }
+
+    String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return "n/a";
+        }
+
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    String formatGc(ExecutionMetrics metrics) {
+        return String.format("%d GC (%d ms)", metrics.getGcCount(), metrics.getGcTimeMillis());
+    }
+}
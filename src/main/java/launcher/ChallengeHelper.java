@@ -1,24 +1,119 @@
 package launcher;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.experimental.UtilityClass;
 
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 @UtilityClass
 public class ChallengeHelper {
+    // The default maximum size of the inputs kept in memory, it can be changed with the
+    // system property "aoc.inputCache.maxBytes" or with setInputCacheMaximumSize
+    private final long DEFAULT_INPUT_CACHE_MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    // Approximation of the memory taken by a String besides its characters
+    private final int STRING_OVERHEAD_BYTES = 40;
+
+    private volatile Cache<InputKey, List<String>> inputCache = createInputCache(
+        Long.getLong("aoc.inputCache.maxBytes", DEFAULT_INPUT_CACHE_MAXIMUM_BYTES)
+    );
+
     /**
-     * Read the input data for the challenge using the day number
+     * Read the input data for the challenge using the day number. The lines are kept in memory
+     * so both parts, and the next runs, don't read the file again as long as it is not modified.
      * @param day The day of the challenge for the input
-     * @return A list of strings corresponding to all the lines in the input file split
+     * @return An immutable list of strings corresponding to all the lines in the input file split
      *         on new line
      */
-    @SneakyThrows
     public List<String> readInputData(int day) {
+        return readInputData(getInputPath(day));
+    }
+
+    /**
+     * Read any input file, e.g. one that doesn't follow the naming of the input directory. The lines
+     * are kept in memory like the ones of the days as long as the file is not modified.
+     * @param path The path of the input file
+     * @return An immutable list of strings corresponding to all the lines in the input file split
+     *         on new line
+     */
+    @SneakyThrows
+    public List<String> readInputData(Path path) {
+        // Use the modification time in the key so an updated file is read again
+        InputKey key = new InputKey(path.toAbsolutePath().normalize(), Files.getLastModifiedTime(path));
+
+        try {
+            return inputCache.get(key, () -> ImmutableList.copyOf(Files.readAllLines(path)));
+        } catch (ExecutionException e) {
+            // Throw the exception which made the reading fail instead of the wrapper
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Map the input data for the challenge in memory instead of reading it. Nothing is decoded
+     * or copied on the heap, the solvers can parse the bytes directly with the line and token
+     * cursors of the returned view.
+     * @param day The day of the challenge for the input
+     * @return A read-only view over the bytes of the input file
+     */
+    public MappedInput mapInputData(int day) {
+        return MappedInput.map(getInputPath(day));
+    }
+
+    /**
+     * Change the maximum size of the inputs kept in memory, the inputs already read are discarded.
+     * The least recently used inputs are evicted first when the size is exceeded.
+     * @param maximumBytes The maximum size in bytes, 0 to disable the cache
+     */
+    public void setInputCacheMaximumSize(long maximumBytes) {
+        inputCache = createInputCache(maximumBytes);
+    }
+
+    /**
+     * Discard all the inputs kept in memory
+     */
+    public void invalidateInputCache() {
+        inputCache.invalidateAll();
+    }
+
+    /**
+     * @param day The day of the challenge for the input
+     * @return The path of the input file of the day, e.g. to map a file too big for the cache
+     */
+    public Path getInputPath(int day) {
         // Using %02d to pad the number with one leading zero if needed
         // https://stackoverflow.com/a/35522727/7621349
-        return Files.readAllLines(Paths.get(String.format("input/day_%02d.input", day)));
+        return Paths.get(String.format("input/day_%02d.input", day));
+    }
+
+    private Cache<InputKey, List<String>> createInputCache(long maximumBytes) {
+        return CacheBuilder.newBuilder()
+            .maximumWeight(maximumBytes)
+            // Weigh each input with the approximate size of its lines in memory
+            .weigher((InputKey key, List<String> lines) -> {
+                long bytes = 0;
+
+                for (String line : lines) {
+                    bytes += STRING_OVERHEAD_BYTES + 2L * line.length();
+                }
+
+                return (int) Math.min(bytes, Integer.MAX_VALUE);
+            })
+            .build();
+    }
+
+    @Value
+    private class InputKey {
+        private Path path;
+        private FileTime lastModified;
     }
 }
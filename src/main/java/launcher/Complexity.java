@@ -0,0 +1,104 @@
+package launcher;
+
+/**
+ * The classes of complexity the measures of a part are fitted to, from the best to the worst
+ */
+enum Complexity {
+    LINEAR("O(n)"),
+    LINEARITHMIC("O(n log n)"),
+    QUADRATIC("O(n²)"),
+    CUBIC("O(n³)");
+
+    private final String notation;
+
+    Complexity(String notation) {
+        this.notation = notation;
+    }
+
+    /**
+     * @param n The size of the input
+     * @return How the cost grows with the size, without any constant factor
+     */
+    double apply(double n) {
+        switch (this) {
+            case LINEAR:
+                return n;
+            case LINEARITHMIC:
+                // Shifted so the smallest size doesn't cost nothing, as log(1) is 0
+                return n * Math.log(n + 1);
+            case QUADRATIC:
+                return n * n;
+            default:
+                return n * n * n;
+        }
+    }
+
+    /**
+     * Find the class fitting best some measures. Each class is fitted as cost = c * f(n) by least
+     * squares on the logarithms, so the small and the big sizes weigh the same, and the class
+     * with the smallest residual wins.
+     * @param sizes The sizes of the inputs, in ascending order
+     * @param costs The cost measured for each size, e.g. the time or the allocated bytes
+     * @return The class fitting best the measures
+     */
+    static Complexity fit(double[] sizes, double[] costs) {
+        Complexity best = null;
+        double bestResidual = Double.POSITIVE_INFINITY;
+
+        for (Complexity complexity : values()) {
+            double[] deviations = new double[sizes.length];
+            double mean = 0;
+
+            // log(cost) - log(f(n)) is log(c) plus the error, its mean is the best log(c)
+            for (int i = 0; i < sizes.length; i++) {
+                deviations[i] = Math.log(Math.max(costs[i], 1)) - Math.log(complexity.apply(sizes[i]));
+                mean += deviations[i] / sizes.length;
+            }
+
+            double residual = 0;
+
+            for (double deviation : deviations) {
+                residual += (deviation - mean) * (deviation - mean);
+            }
+
+            if (residual < bestResidual) {
+                best = complexity;
+                bestResidual = residual;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * @param sizes The sizes of the inputs
+     * @param costs The cost measured for each size
+     * @return The slope of the cost against the size on a log-log scale, 1 for linear, 2 for
+     * quadratic, etc.
+     */
+    static double slope(double[] sizes, double[] costs) {
+        double meanX = 0;
+        double meanY = 0;
+
+        for (int i = 0; i < sizes.length; i++) {
+            meanX += Math.log(sizes[i]) / sizes.length;
+            meanY += Math.log(Math.max(costs[i], 1)) / sizes.length;
+        }
+
+        double covariance = 0;
+        double variance = 0;
+
+        for (int i = 0; i < sizes.length; i++) {
+            double x = Math.log(sizes[i]) - meanX;
+            covariance += x * (Math.log(Math.max(costs[i], 1)) - meanY);
+            variance += x * x;
+        }
+
+        return covariance / variance;
+    }
+
+    @Override
+    public String toString() {
+        return notation;
+    }
+}
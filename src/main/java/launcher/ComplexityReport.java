@@ -0,0 +1,216 @@
+package launcher;
+
+import generators.Generators;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run the parts on generated inputs of growing sizes, fit their time and allocations to the
+ * classes of complexity and flag the parts growing faster than they should. The size of an input
+ * is its scale, how many times bigger than the real input it is.
+ */
+@UtilityClass
+class ComplexityReport {
+    // Each size is run a few times and the best run is kept, unless a run is long enough for the noise not to matter
+    private final int REPETITIONS = 3;
+    private final long LONG_RUN_NANOS = 1_000_000_000L;
+    final int MINIMUM_SIZES = 3;
+
+    // The class each part should achieve on the generated inputs, from the best known approach
+    // rather than from the current solver. Null when the generated inputs don't grow the work,
+    // the part is then skipped
+    private final Map<Integer, Complexity[]> EXPECTED = new HashMap<>();
+
+    static {
+        EXPECTED.put(1, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // Part two can hash each ID with one letter removed instead of comparing all the pairs
+        EXPECTED.put(2, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        EXPECTED.put(3, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // The records have to be sorted by date
+        EXPECTED.put(4, new Complexity[]{Complexity.LINEARITHMIC, Complexity.LINEARITHMIC});
+        // A single pass with a stack, done once per letter for part two
+        EXPECTED.put(5, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // The area grows like the number of points, a search from all the points at once visits it once
+        EXPECTED.put(6, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // The available steps are kept sorted
+        EXPECTED.put(7, new Complexity[]{Complexity.LINEARITHMIC, Complexity.LINEARITHMIC});
+        EXPECTED.put(8, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        EXPECTED.put(9, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // Each point is moved for the same number of seconds whatever the scale
+        EXPECTED.put(10, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // The grid is 300 by 300 whatever the scale
+        EXPECTED.put(11, new Complexity[]{null, null});
+        // The number of generations computed doesn't depend on the scale
+        EXPECTED.put(12, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+        // The carts are sorted on each tick, and the loops keep the same size
+        EXPECTED.put(13, new Complexity[]{Complexity.LINEARITHMIC, Complexity.LINEARITHMIC});
+        // Part two depends on the digits of the input, not on its value
+        EXPECTED.put(14, new Complexity[]{Complexity.LINEAR, null});
+        // Each unit searches the whole cave on each turn
+        EXPECTED.put(15, new Complexity[]{Complexity.QUADRATIC, Complexity.QUADRATIC});
+        EXPECTED.put(16, new Complexity[]{Complexity.LINEAR, Complexity.LINEAR});
+    }
+
+    /**
+     * Measure all the parts of all the days given in the options on the scales given in the
+     * options, and print a report
+     * @param options The options given to the launcher
+     */
+    void run(LauncherOptions options) {
+        List<Integer> scales = new ArrayList<>(new TreeSet<>(options.getComplexityScales()));
+
+        // A stored answer would be measured instead of the solver
+        AnswerStore.setEnabled(false);
+
+        // Everything runs on the calling thread, so the parts don't compete for the CPU
+        ExecutionBackend backend = ExecutionBackend.callingThread();
+        backend.setTimeout(TimeUnit.SECONDS.toNanos(options.getTimeoutSeconds()));
+        List<String> flagged = new ArrayList<>();
+
+        for (int day : options.getDays()) {
+            for (int part : options.getParts()) {
+                String verdict = measure(day, part, scales, options.getSeed(), backend);
+
+                if (verdict != null) {
+                    flagged.add(String.format("Day %02d part %d: %s", day, part, verdict));
+                }
+            }
+        }
+
+        System.out.printf("%n%d parts scale worse than expected%n", flagged.size());
+
+        for (String line : flagged) {
+            System.out.println("  " + line);
+        }
+    }
+
+    /**
+     * @return A description of the problem when the part scales worse than expected, else null
+     */
+    private String measure(int day, int part, List<Integer> scales, long seed, ExecutionBackend backend) {
+        Complexity[] expectedByPart = EXPECTED.getOrDefault(day, new Complexity[2]);
+        Complexity expected = expectedByPart[part - 1];
+
+        if (!Generators.getAvailableDays().contains(day)) {
+            System.out.printf("%nDay %02d part %d, skipped as it has no input generator%n", day, part);
+            return null;
+        }
+
+        if (expected == null) {
+            System.out.printf("%nDay %02d part %d, skipped as its work doesn't grow with the scale%n", day, part);
+            return null;
+        }
+
+        System.out.printf("%nDay %02d part %d, expected %s%n", day, part, expected);
+
+        String format = "%8s | %12s | %12s | %12s%n";
+        System.out.printf(format, "Scale", "Input", "Time", "Allocated");
+
+        List<Double> sizes = new ArrayList<>();
+        List<Double> times = new ArrayList<>();
+        List<Double> allocations = new ArrayList<>();
+
+        try {
+            // Let the JIT compile the part on the smallest input before measuring anything
+            run(day, part, Generators.generate(day, scales.get(0), seed), backend);
+        } catch (RuntimeException e) {
+            System.out.println("  ERROR: " + e);
+            return null;
+        }
+
+        for (int scale : scales) {
+            List<String> input = Generators.generate(day, scale, seed);
+            long bestTime = Long.MAX_VALUE;
+            long bestAllocation = Long.MAX_VALUE;
+
+            try {
+                for (int i = 0; i < REPETITIONS; i++) {
+                    ExecutionMetrics metrics = run(day, part, input, backend);
+                    bestTime = Math.min(bestTime, metrics.getWallTimeNanos());
+                    bestAllocation = Math.min(bestAllocation, metrics.getAllocatedBytes());
+
+                    if (metrics.getWallTimeNanos() >= LONG_RUN_NANOS) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The bigger sizes would fail the same way, e.g. on the time budget
+                System.out.printf(format, scale, formatInput(input), "ERROR: " + e, "");
+                break;
+            }
+
+            System.out.printf(
+                format,
+                scale,
+                formatInput(input),
+                BatchLauncher.formatNanos(bestTime),
+                BatchLauncher.formatBytes(bestAllocation)
+            );
+
+            sizes.add((double) scale);
+            times.add((double) bestTime);
+            allocations.add((double) bestAllocation);
+        }
+
+        if (sizes.size() < MINIMUM_SIZES) {
+            System.out.printf("  Not enough sizes measured to fit a curve%n");
+            return null;
+        }
+
+        double[] sizeArray = toArray(sizes);
+        Complexity timeFit = Complexity.fit(sizeArray, toArray(times));
+        Complexity allocationFit = Complexity.fit(sizeArray, toArray(allocations));
+
+        System.out.printf(
+            "  Time fits %s (log-log slope %.2f), allocations fit %s (log-log slope %.2f)%n",
+            timeFit,
+            Complexity.slope(sizeArray, toArray(times)),
+            allocationFit,
+            Complexity.slope(sizeArray, toArray(allocations))
+        );
+
+        if (timeFit.compareTo(expected) <= 0) {
+            return null;
+        }
+
+        System.out.printf("  WORSE THAN EXPECTED%n");
+        return String.format("time fits %s instead of %s", timeFit, expected);
+    }
+
+    private ExecutionMetrics run(int day, int part, List<String> input, ExecutionBackend backend) {
+        ExecutionResult result = Launcher
+            .executeAsync(day, Collections.singletonList(part), () -> input, backend)
+            .get(0)
+            .join();
+
+        if (!result.isSuccessful()) {
+            throw new IllegalStateException(String.valueOf(result.getError()), result.getError());
+        }
+
+        // The parsing is part of the cost of the part
+        return result.getParseMetrics() != null
+            ? result.getParseMetrics().plus(result.getMetrics())
+            : result.getMetrics();
+    }
+
+    private String formatInput(List<String> input) {
+        long characters = 0;
+
+        for (String line : input) {
+            characters += line.length() + 1;
+        }
+
+        return String.format("%d chars", characters);
+    }
+
+    private double[] toArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,59 @@
+package launcher;
+
+/**
+ * Show the progress of the parts on a single line of the console, rewritten on each report.
+ * The line is written to the error output so it doesn't mix with the answers, and only when
+ * there is a console to rewrite it.
+ */
+class ConsoleProgress implements ProgressListener {
+    private final boolean enabled;
+    // The length of the line currently shown, 0 when there is none
+    private int shownLength = 0;
+
+    private ConsoleProgress(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return A progress line shown only when the launcher runs in a console
+     */
+    static ConsoleProgress create() {
+        return new ConsoleProgress(System.console() != null);
+    }
+
+    @Override
+    public synchronized void onProgress(Progress progress) {
+        if (!enabled) {
+            return;
+        }
+
+        String line = String.format("Day %02d part %d: %s", progress.getDay(), progress.getPart(), progress.describe());
+        // Pad with spaces to erase what is left of a longer line
+        System.err.print("\r" + pad(line, shownLength));
+        System.err.flush();
+        shownLength = line.length();
+    }
+
+    /**
+     * Erase the progress line, before printing something else
+     */
+    synchronized void clear() {
+        if (shownLength == 0) {
+            return;
+        }
+
+        System.err.print("\r" + pad("", shownLength) + "\r");
+        System.err.flush();
+        shownLength = 0;
+    }
+
+    private String pad(String line, int length) {
+        StringBuilder padded = new StringBuilder(line);
+
+        while (padded.length() < length) {
+            padded.append(' ');
+        }
+
+        return padded.toString();
+    }
+}
@@ -1,5 +1,11 @@
 package launcher;
 
+/**
+ * The solver of a day. The parts looping until they find their answer should call
+ * SolverContext.checkCancelled in their loops, so they can be stopped when they take too long.
+ * The slow parts can open SolverPhase to show where their time goes in a flight recording, and
+ * their long loops can call SolverProgress.report to tell how far they are.
+ */
 public interface Executable {
     /**
      * Execute part one of the choosen day and return the result as a String
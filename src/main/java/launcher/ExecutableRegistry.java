@@ -0,0 +1,125 @@
+package launcher;
+
+import days.Day00_NotDoneYet;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Find the executable of each day in the service files META-INF/services/launcher.Executable.
+ * Only the names of the classes are read, a class is loaded when its day is requested, so the
+ * available days can be listed without loading all of them.
+ */
+@UtilityClass
+public class ExecutableRegistry {
+    private final String INDEX_RESOURCE = "META-INF/services/" + Executable.class.getName();
+
+    // The day is given by the prefix of the class name e.g. days.Day01_ChronalCalibration
+    private final Pattern DAY_PATTERN = Pattern.compile("(?:^|\\.)Day(\\d{2})_\\w*$");
+
+    // Read lazily and only once, from the day to the name of its class
+    private volatile SortedMap<Integer, String> index;
+
+    /**
+     * @return The days which have an executable, in ascending order
+     */
+    public SortedSet<Integer> getAvailableDays() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(getIndex().keySet()));
+    }
+
+    /**
+     * @param day The day of the challenge
+     * @return true if the day has an executable
+     */
+    public boolean isAvailable(int day) {
+        return getIndex().containsKey(day);
+    }
+
+    /**
+     * Get a new instance of the executable of the given day, only its class is loaded
+     * @param day The day of the challenge
+     * @return The executable of the day or a placeholder if the day has not been done yet
+     */
+    @SneakyThrows
+    public Executable getExecutable(int day) {
+        String className = getIndex().get(day);
+
+        if (className == null) {
+            return new Day00_NotDoneYet();
+        }
+
+        return Class.forName(className, true, getClassLoader())
+            .asSubclass(Executable.class)
+            .getDeclaredConstructor()
+            .newInstance();
+    }
+
+    private SortedMap<Integer, String> getIndex() {
+        // Double checked locking so the index is read once even when asked from multiple threads
+        if (index == null) {
+            synchronized (ExecutableRegistry.class) {
+                if (index == null) {
+                    index = Collections.unmodifiableSortedMap(readIndex());
+                }
+            }
+        }
+
+        return index;
+    }
+
+    @SneakyThrows
+    private SortedMap<Integer, String> readIndex() {
+        SortedMap<Integer, String> days = new TreeMap<>();
+        Enumeration<URL> resources = getClassLoader().getResources(INDEX_RESOURCE);
+
+        // There is one service file per jar or directory of the classpath
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)
+            )) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    // Like ServiceLoader, ignore what follows a '#'
+                    String className = line.split("#", 2)[0].trim();
+
+                    if (className.isEmpty()) {
+                        continue;
+                    }
+
+                    Matcher matcher = DAY_PATTERN.matcher(className);
+
+                    if (!matcher.find()) {
+                        throw new IllegalStateException(
+                            String.format("'%s' in %s doesn't follow the DayNN_ naming.", className, resource)
+                        );
+                    }
+
+                    // The first entry wins, like the first class found on the classpath
+                    days.putIfAbsent(Integer.parseInt(matcher.group(1)), className);
+                }
+            }
+        }
+
+        return days;
+    }
+
+    private ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ExecutableRegistry.class.getClassLoader();
+    }
+}
@@ -0,0 +1,135 @@
+package launcher;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Where the parsing and the parts of the days are run.
+ * <ul>
+ *     <li>platform: a fixed pool of threads, the size of the pool limits the work done at the same time</li>
+ *     <li>virtual: one virtual thread per task, the parsing and the parts are limited by a semaphore
+ *     while reading the inputs is not</li>
+ * </ul>
+ */
+class ExecutionBackend implements Closeable {
+    private final String name;
+    private final Executor executor;
+    // Null when the executor already limits the work done at the same time
+    private final Semaphore cpuPermits;
+    // The time budget of each parsing and part, 0 for no budget
+    private long timeoutNanos = 0;
+
+    private ExecutionBackend(String name, Executor executor, Semaphore cpuPermits) {
+        this.name = name;
+        this.executor = executor;
+        this.cpuPermits = cpuPermits;
+    }
+
+    /**
+     * @param name The name of the backend, platform or virtual
+     * @param threads The number of tasks running on the CPU at the same time
+     * @return The backend with the given name
+     * @throws IllegalArgumentException If there is no backend with this name
+     */
+    static ExecutionBackend create(String name, int threads) {
+        switch (name) {
+            case "platform":
+                return platform(threads);
+            case "virtual":
+                return virtual(threads);
+            default:
+                throw new IllegalArgumentException(String.format("Unknown backend '%s'.", name));
+        }
+    }
+
+    /**
+     * @return A backend running everything in the thread which starts it
+     */
+    static ExecutionBackend callingThread() {
+        return new ExecutionBackend("calling thread", Runnable::run, null);
+    }
+
+    /**
+     * @param threads The size of the thread pool
+     * @return A backend running everything on a fixed pool of platform threads
+     */
+    static ExecutionBackend platform(int threads) {
+        return new ExecutionBackend("platform", Executors.newFixedThreadPool(threads), null);
+    }
+
+    /**
+     * Create a backend starting one virtual thread per task. The virtual threads only exist since
+     * Java 21, on an older JVM a new platform thread is started for each task instead.
+     * @param permits The number of parsings and parts running at the same time
+     * @return A backend running each task on its own thread
+     */
+    static ExecutionBackend virtual(int permits) {
+        try {
+            // Found by reflection so the project still compiles and runs with older versions of Java
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return new ExecutionBackend("virtual", (ExecutorService) factory.invoke(null), new Semaphore(permits));
+        } catch (ReflectiveOperationException e) {
+            return new ExecutionBackend(
+                "virtual (unsupported, one platform thread per task)",
+                Executors.newCachedThreadPool(),
+                new Semaphore(permits)
+            );
+        }
+    }
+
+    /**
+     * @return The name of the backend, to be shown to the user
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Stop the parsings and parts taking longer than a time budget. They are only stopped when
+     * they check their budget with SolverContext.checkCancelled.
+     * @param timeoutNanos The time budget of each parsing and part, 0 for no budget
+     */
+    void setTimeout(long timeoutNanos) {
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * @return The executor starting the tasks
+     */
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Run some work using the CPU, like parsing the input or solving a part. It waits until
+     * a permit is available when the backend limits the work done at the same time, and the
+     * time budget starts once it has the permit.
+     * @param work The work to do
+     * @return The result of the work
+     */
+    <T> T runOnCpu(Supplier<T> work) {
+        if (cpuPermits == null) {
+            return SolverContext.runWithBudget(timeoutNanos, work);
+        }
+
+        cpuPermits.acquireUninterruptibly();
+
+        try {
+            return SolverContext.runWithBudget(timeoutNanos, work);
+        } finally {
+            cpuPermits.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package launcher;
+
+import lombok.Value;
+
+/**
+ * What a piece of work cost, as measured by a MetricsRecorder. The values that the JVM can't
+ * measure are -1.
+ */
+@Value
+public class ExecutionMetrics {
+    private long wallTimeNanos;
+    // Time spent by the thread on the CPU, less than the wall time when it waited or was descheduled
+    private long cpuTimeNanos;
+    // Bytes allocated on the heap by the thread
+    private long allocatedBytes;
+    // The collections are counted for the whole JVM, so they include the ones caused by the
+    // other threads running at the same time
+    private long gcCount;
+    private long gcTimeMillis;
+
+    /**
+     * @return The sum of two measures, e.g. the parsing and the part
+     */
+    public ExecutionMetrics plus(ExecutionMetrics other) {
+        return new ExecutionMetrics(
+            wallTimeNanos + other.wallTimeNanos,
+            add(cpuTimeNanos, other.cpuTimeNanos),
+            add(allocatedBytes, other.allocatedBytes),
+            gcCount + other.gcCount,
+            gcTimeMillis + other.gcTimeMillis
+        );
+    }
+
+    private static long add(long a, long b) {
+        // An unknown value stays unknown
+        return a < 0 || b < 0 ? -1 : a + b;
+    }
+}
@@ -0,0 +1,47 @@
+package launcher;
+
+import lombok.Value;
+
+@Value
+public class ExecutionResult {
+    private int day;
+    private int part;
+    private String answer;
+    // Null when the part completed normally
+    private Throwable error;
+    // What the parsing of the input cost when the executable parses it separately, else null.
+    // With a model shared by both parts, both results have the metrics of the same parsing
+    private ExecutionMetrics parseMetrics;
+    // What the part itself cost, without the parsing when it is done separately
+    private ExecutionMetrics metrics;
+    // True when the answer was found in the answer store instead of solving the part again
+    private boolean stored;
+    // The last progress reported by the part, null if it never reported any
+    private Progress progress;
+
+    /**
+     * @param progress The last progress reported by the part
+     * @return The same result with this progress
+     */
+    ExecutionResult withProgress(Progress progress) {
+        return new ExecutionResult(day, part, answer, error, parseMetrics, metrics, stored, progress);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    /**
+     * @return The time spent parsing the input separately, 0 if it was parsed inside the part
+     */
+    public long getParseTimeNanos() {
+        return parseMetrics != null ? parseMetrics.getWallTimeNanos() : 0;
+    }
+
+    /**
+     * @return The time spent in the part itself
+     */
+    public long getWallTimeNanos() {
+        return metrics.getWallTimeNanos();
+    }
+}
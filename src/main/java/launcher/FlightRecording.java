@@ -0,0 +1,52 @@
+package launcher;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * A Java Flight Recorder recording of the launcher, written to a file once closed. It uses the
+ * "profile" settings of the JDK, so the file opened in JDK Mission Control shows the samples of
+ * the methods, the allocations and the GC along with the parts and the phases of the solvers.
+ */
+class FlightRecording implements Closeable {
+    private final Recording recording;
+    private final Path destination;
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    /**
+     * @param destination The file the recording is written to
+     * @return The recording, already started
+     */
+    @SneakyThrows
+    static FlightRecording start(Path destination) {
+        Recording recording = new Recording(Configuration.getConfiguration("profile"));
+        recording.setName("Advent of Code");
+        recording.enable(PartExecutionEvent.class);
+        recording.enable(PhaseEvent.class);
+        recording.start();
+
+        return new FlightRecording(recording, destination);
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        recording.stop();
+
+        try {
+            recording.dump(destination);
+        } finally {
+            recording.close();
+        }
+
+        System.out.println(String.format("The flight recording has been written to %s", destination));
+    }
+}
@@ -1,11 +1,45 @@
 package launcher;
 
-import days.*;
+import com.google.common.hash.HashCode;
 import lombok.SneakyThrows;
+import lombok.Value;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public class Launcher {
     @SneakyThrows
     public static void main(String[] args) {
+        // With arguments, run everything that has been asked without any interaction
+        if (args.length > 0) {
+            LauncherOptions options;
+
+            try {
+                options = LauncherOptions.parse(args);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                System.err.println(LauncherOptions.USAGE);
+                System.exit(1);
+                return;
+            }
+
+            AnswerStore.setEnabled(options.isAnswerStoreEnabled());
+
+            // The recording is null when it has not been asked for, and is then not closed
+            try (FlightRecording recording = options.getJfrPath() != null
+                ? FlightRecording.start(options.getJfrPath())
+                : null
+            ) {
+                run(options);
+            }
+            return;
+        }
+
         System.out.println("Welcome to the Advent of Code 2018!");
 
         System.out.println("Choose a day to begin: (1-25)");
@@ -22,65 +56,381 @@ public class Launcher {
             2
         );
 
-        if (choosenPart == 1) {
-            System.out.println(
-                String.format(
-                    "The answer for Day %02d Part %d is: %s",
-                    choosenDay,
-                    choosenPart,
-                    getCorrespondingExecutableDay(choosenDay).executePartOne()
-                )
-            );
-        } else {
-            System.out.println(
-                String.format(
-                    "The answer for Day %02d Part %d is: %s",
-                    choosenDay,
-                    choosenPart,
-                    getCorrespondingExecutableDay(choosenDay).executePartTwo()
-                )
-            );
+        ConsoleProgress progress = ConsoleProgress.create();
+        ExecutionResult result = execute(choosenDay, choosenPart, progress);
+        progress.clear();
+
+        if (!result.isSuccessful()) {
+            throw result.getError();
+        }
+
+        System.out.println(
+            String.format(
+                "The answer for Day %02d Part %d is: %s",
+                choosenDay,
+                choosenPart,
+                result.getAnswer()
+            )
+        );
+
+        ExecutionMetrics metrics = result.getParseMetrics() != null
+            ? result.getParseMetrics().plus(result.getMetrics())
+            : result.getMetrics();
+
+        System.out.println(
+            String.format(
+                "It took %s (CPU %s), allocated %s and triggered %s",
+                BatchLauncher.formatNanos(metrics.getWallTimeNanos()),
+                BatchLauncher.formatNanos(metrics.getCpuTimeNanos()),
+                BatchLauncher.formatBytes(metrics.getAllocatedBytes()),
+                BatchLauncher.formatGc(metrics)
+            )
+        );
+
+        if (result.getProgress() != null) {
+            System.out.println(String.format("It went through %s", result.getProgress().describe()));
         }
     }
 
-    private static Executable getCorrespondingExecutableDay(int day) {
-        switch (day) {
-            case 1:
-                return new Day01_ChronalCalibration();
-            case 2:
-                return new Day02_InventoryManagementSystem();
-            case 3:
-                return new Day03_NoMatterHowYouSliceIt();
-            case 4:
-                return new Day04_ReposeRecord();
-            case 5:
-                return new Day05_AlchemicalReduction();
-            case 6:
-                return new Day06_ChronalCoordinates();
-            case 7:
-                return new Day07_TheSumOfItsParts();
-            case 8:
-                return new Day08_MemoryManeuver();
-            case 9:
-                return new Day09_MarbleMania();
-            case 10:
-                return new Day10_TheStarsAlign();
-            case 11:
-                return new Day11_ChronalCharge();
-            case 12:
-                return new Day12_SubterraneanSustainability();
-            case 13:
-                return new Day13_MineCartMadness();
-            case 14:
-                return new Day14_ChocolateCharts();
-            case 15:
-                return new Day15_BeverageBandits();
-            case 16:
-                return new Day16_ChronalClassification();
-            case 17:
-                return new Day17_ReservoirResearch();
-            default:
-                return new Day00_NotDoneYet();
+    private static void run(LauncherOptions options) throws IOException {
+        if (options.isDaemon()) {
+            ExecutionBackend backend = options.createBackend();
+
+            try (SolverDaemon daemon = new SolverDaemon(options.getDaemonPort(), backend)) {
+                System.out.println(String.format("Listening on port %d of the loopback interface", daemon.getPort()));
+                daemon.serve();
+            }
+            return;
+        }
+
+        if (options.isBenchmark()) {
+            MicroBenchmark.run(options);
+            return;
+        }
+
+        if (options.isMultiInput()) {
+            ThroughputRun.run(options);
+            return;
+        }
+
+        if (options.isComplexityReport()) {
+            ComplexityReport.run(options);
+            return;
         }
+
+        BatchLauncher.run(options);
+    }
+
+    /**
+     * Execute one part of a day and measure the time it took
+     * @param day The day to execute
+     * @param part The part of the day to execute
+     * @return The answer of the part or the error that occurred, with the time it took
+     */
+    static ExecutionResult execute(int day, int part) {
+        return execute(day, part, ProgressListener.NONE);
+    }
+
+    /**
+     * Execute one part of a day and measure the time it took
+     * @param day The day to execute
+     * @param part The part of the day to execute
+     * @param progress Told how far the part is while it runs
+     * @return The answer of the part or the error that occurred, with the time it took
+     */
+    static ExecutionResult execute(int day, int part, ProgressListener progress) {
+        // Run everything in the calling thread
+        return executeAsync(day, Collections.singletonList(part), null, ExecutionBackend.callingThread(), progress)
+            .get(0)
+            .join();
+    }
+
+    /**
+     * Execute some parts of a day on a backend. When the executable parses its input separately,
+     * the input is parsed once and given to the parts, which run in parallel if they don't modify it.
+     * @param day The day to execute
+     * @param parts The parts of the day to execute
+     * @param backend The backend running the parsing and the parts
+     * @return One future per part, in the order of the parts, they never complete exceptionally
+     */
+    static List<CompletableFuture<ExecutionResult>> executeAsync(int day, List<Integer> parts, ExecutionBackend backend) {
+        return executeAsync(day, parts, null, backend);
+    }
+
+    /**
+     * Execute some parts of a day on another input than the input file of the day. The parts already
+     * solved for the same input are taken from the answer store, the others are added to it.
+     * @param day The day to execute
+     * @param parts The parts of the day to execute
+     * @param input Read the lines of the input when the parsing starts, null to use the input file of the day
+     * @param backend The backend running the parsing and the parts
+     * @return One future per part, in the order of the parts, they never complete exceptionally
+     */
+    static List<CompletableFuture<ExecutionResult>> executeAsync(
+        int day,
+        List<Integer> parts,
+        Supplier<List<String>> input,
+        ExecutionBackend backend
+    ) {
+        return executeAsync(day, parts, input, backend, ProgressListener.NONE);
+    }
+
+    /**
+     * Execute some parts of a day on another input than the input file of the day, and tell how
+     * far the parts are while they run
+     * @param day The day to execute
+     * @param parts The parts of the day to execute
+     * @param input Read the lines of the input when the parsing starts, null to use the input file of the day
+     * @param backend The backend running the parsing and the parts
+     * @param progress Told how far the parts are, from the threads solving them
+     * @return One future per part, in the order of the parts, they never complete exceptionally
+     */
+    static List<CompletableFuture<ExecutionResult>> executeAsync(
+        int day,
+        List<Integer> parts,
+        Supplier<List<String>> input,
+        ExecutionBackend backend,
+        ProgressListener progress
+    ) {
+        Executable executable = ExecutableRegistry.getExecutable(day);
+        HashCode inputHash = hashInput(day, input);
+        List<CompletableFuture<ExecutionResult>> futures = new ArrayList<>();
+        List<Integer> partsToSolve = new ArrayList<>();
+
+        // Look for the answers already known before solving anything
+        for (int part : parts) {
+            MetricsRecorder recorder = MetricsRecorder.start();
+            String answer = inputHash != null ? findStoredAnswer(executable, day, part, inputHash) : null;
+
+            if (answer != null) {
+                futures.add(CompletableFuture.completedFuture(
+                    new ExecutionResult(day, part, answer, null, null, recorder.stop(), true, null)
+                ));
+            } else {
+                // Keep the place of the part, it is filled once the part is submitted
+                futures.add(null);
+                partsToSolve.add(part);
+            }
+        }
+
+        if (partsToSolve.isEmpty()) {
+            return futures;
+        }
+
+        List<CompletableFuture<ExecutionResult>> solved = solveAsync(executable, day, partsToSolve, input, backend, progress);
+
+        for (int i = 0, j = 0; i < futures.size(); i++) {
+            if (futures.get(i) == null) {
+                futures.set(i, solved.get(j++).thenApply(result -> {
+                    // Write the answer from the thread which solved it, the launcher doesn't wait for it
+                    if (inputHash != null && result.isSuccessful() && result.getAnswer() != null) {
+                        saveAnswer(executable, day, result, inputHash);
+                    }
+
+                    return result;
+                }));
+            }
+        }
+
+        return futures;
+    }
+
+    private static String findStoredAnswer(Executable executable, int day, int part, HashCode inputHash) {
+        try {
+            return AnswerStore.find(executable.getClass(), day, part, inputHash);
+        } catch (Exception e) {
+            // An unreadable store only means the part is solved again
+            System.err.println(String.format("Warning: can't read the answer store (%s), solving Day %02d Part %d.", e, day, part));
+            return null;
+        }
+    }
+
+    private static void saveAnswer(Executable executable, int day, ExecutionResult result, HashCode inputHash) {
+        try {
+            AnswerStore.save(executable.getClass(), day, result.getPart(), inputHash, result.getAnswer());
+        } catch (Exception e) {
+            // The answer has been found anyway, failing to keep it must not fail the part
+            System.err.println(String.format(
+                "Warning: can't save the answer of Day %02d Part %d in the answer store (%s).",
+                day,
+                result.getPart(),
+                e
+            ));
+        }
+    }
+
+    private static HashCode hashInput(int day, Supplier<List<String>> input) {
+        // Nothing to look for if the store is bypassed or the day is not done yet
+        if (!AnswerStore.isEnabled() || !ExecutableRegistry.isAvailable(day)) {
+            return null;
+        }
+
+        try {
+            // The lines are kept in memory by ChallengeHelper so they are not read again to be parsed
+            return AnswerStore.hashInput(input != null ? input.get() : ChallengeHelper.readInputData(day));
+        } catch (Exception e) {
+            // The parsing will fail the same way and report the error
+            return null;
+        }
+    }
+
+    private static List<CompletableFuture<ExecutionResult>> solveAsync(
+        Executable executable,
+        int day,
+        List<Integer> parts,
+        Supplier<List<String>> input,
+        ExecutionBackend backend,
+        ProgressListener progress
+    ) {
+        if (executable instanceof ParsedExecutable) {
+            Supplier<List<String>> lines = input != null ? input : () -> ChallengeHelper.readInputData(day);
+            return executeParsed(day, (ParsedExecutable<?>) executable, parts, lines, backend, progress);
+        }
+
+        List<CompletableFuture<ExecutionResult>> futures = new ArrayList<>();
+
+        for (int part : parts) {
+            // Only the parsed executables can be given another input, the others read their file
+            if (input != null) {
+                UnsupportedOperationException error = new UnsupportedOperationException(
+                    String.format("Day %02d can only be executed on its own input file.", day)
+                );
+                futures.add(CompletableFuture.completedFuture(
+                    new ExecutionResult(day, part, null, error, null, MetricsRecorder.start().stop(), false, null)
+                ));
+                continue;
+            }
+
+            // The executable parses the input in each part, so the parts are simply run in parallel
+            futures.add(CompletableFuture.supplyAsync(
+                () -> backend.runOnCpu(
+                    () -> SolverPhase.recordPart(day, part, () -> SolverProgress.track(
+                        day,
+                        part,
+                        progress,
+                        () -> executeUnparsed(executable, day, part)
+                    ))
+                ),
+                backend.getExecutor()
+            ));
+        }
+
+        return futures;
+    }
+
+    private static ExecutionResult executeUnparsed(Executable executable, int day, int part) {
+        MetricsRecorder recorder = MetricsRecorder.start();
+
+        try {
+            String answer = part == 1 ? executable.executePartOne() : executable.executePartTwo();
+            return new ExecutionResult(day, part, answer, null, null, recorder.stop(), false, null);
+        } catch (Exception e) {
+            return new ExecutionResult(day, part, null, e, null, recorder.stop(), false, null);
+        }
+    }
+
+    private static <T> List<CompletableFuture<ExecutionResult>> executeParsed(
+        int day,
+        ParsedExecutable<T> executable,
+        List<Integer> parts,
+        Supplier<List<String>> input,
+        ExecutionBackend backend,
+        ProgressListener progress
+    ) {
+        List<CompletableFuture<ExecutionResult>> futures = new ArrayList<>();
+        Executor executor = backend.getExecutor();
+        // Only parse once if the parts can share the model, the parts then wait for the parsing
+        // without blocking a thread of the executor
+        CompletableFuture<ParsedModel<T>> sharedModel = executable.isModelShareable()
+            ? CompletableFuture.supplyAsync(() -> parse(executable, day, 0, input, backend), executor)
+            : null;
+
+        for (int part : parts) {
+            // Else each part parses its own model as it will modify it
+            CompletableFuture<ParsedModel<T>> model = sharedModel != null
+                ? sharedModel
+                : CompletableFuture.supplyAsync(() -> parse(executable, day, part, input, backend), executor);
+
+            futures.add(model.thenApplyAsync(
+                parsedModel -> backend.runOnCpu(
+                    () -> SolverPhase.recordPart(day, part, () -> SolverProgress.track(
+                        day,
+                        part,
+                        progress,
+                        () -> solve(executable, parsedModel, day, part)
+                    ))
+                ),
+                executor
+            ));
+        }
+
+        return futures;
+    }
+
+    private static <T> ParsedModel<T> parse(
+        ParsedExecutable<T> executable,
+        int day,
+        // 0 when the model is shared by the parts
+        int part,
+        Supplier<List<String>> input,
+        ExecutionBackend backend
+    ) {
+        MetricsRecorder readRecorder = MetricsRecorder.start();
+        List<String> lines;
+
+        // Reading the input mostly waits for the disk, so it doesn't take one of the CPU permits
+        try {
+            lines = SolverPhase.recordPhase(day, part, "read input", input);
+        } catch (Exception e) {
+            return new ParsedModel<>(null, e, readRecorder.stop());
+        }
+
+        ExecutionMetrics readMetrics = readRecorder.stop();
+
+        return backend.runOnCpu(() -> {
+            MetricsRecorder recorder = MetricsRecorder.start();
+
+            try {
+                T model = SolverPhase.recordPhase(day, part, "parse", () -> executable.parse(lines));
+                return new ParsedModel<>(model, null, readMetrics.plus(recorder.stop()));
+            } catch (Exception e) {
+                return new ParsedModel<>(null, e, readMetrics.plus(recorder.stop()));
+            }
+        });
+    }
+
+    private static <T> ExecutionResult solve(ParsedExecutable<T> executable, ParsedModel<T> parsedModel, int day, int part) {
+        // If the parsing failed, all the parts fail with the same error
+        if (parsedModel.getError() != null) {
+            return new ExecutionResult(
+                day,
+                part,
+                null,
+                parsedModel.getError(),
+                parsedModel.getMetrics(),
+                MetricsRecorder.start().stop(),
+                false,
+                null
+            );
+        }
+
+        MetricsRecorder recorder = MetricsRecorder.start();
+
+        try {
+            String answer = part == 1
+                ? executable.executePartOne(parsedModel.getModel())
+                : executable.executePartTwo(parsedModel.getModel());
+            return new ExecutionResult(day, part, answer, null, parsedModel.getMetrics(), recorder.stop(), false, null);
+        } catch (Exception e) {
+            return new ExecutionResult(day, part, null, e, parsedModel.getMetrics(), recorder.stop(), false, null);
+        }
+    }
+
+    @Value
+    private static class ParsedModel<T> {
+        private T model;
+        // Null when the parsing completed normally
+        private Throwable error;
+        private ExecutionMetrics metrics;
     }
 }
@@ -5,9 +5,15 @@ import lombok.experimental.UtilityClass;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 
 @UtilityClass
 class LauncherHelper {
+    // Share the reader between the calls, else the first reader buffers everything that has
+    // been piped in and the next calls find nothing to read
+    private final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(System.in));
+
     private boolean isInRange(int number, int lowerBound, int upperBound) {
         return number >= lowerBound && number <= upperBound;
     }
@@ -25,15 +31,71 @@ class LauncherHelper {
 
     @SneakyThrows
     int getValidIntegerInput(String retryMessage, int lowerBound, int upperBound) {
-        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(System.in));
-
         String input = bufferedReader.readLine();
 
         while (!isInteger(input) || !isInRange(Integer.parseInt(input), lowerBound, upperBound)) {
+            // If the input has been closed there is no point in asking again
+            if (input == null) {
+                throw new IllegalStateException("The standard input has been closed.");
+            }
+
             System.out.println(retryMessage);
             input = bufferedReader.readLine();
         }
 
         return Integer.parseInt(input);
     }
+
+    /**
+     * Parse a single integer
+     * @param input The string to parse
+     * @param lowerBound The smallest value accepted
+     * @param upperBound The biggest value accepted
+     * @return The parsed integer
+     */
+    int parseInteger(String input, int lowerBound, int upperBound) {
+        if (!isInteger(input) || !isInRange(Integer.parseInt(input), lowerBound, upperBound)) {
+            throw new IllegalArgumentException(
+                String.format("'%s' must be an integer between %d and %d.", input, lowerBound, upperBound)
+            );
+        }
+
+        return Integer.parseInt(input);
+    }
+
+    /**
+     * Parse a list of integers and ranges of integers such as "1-5,8,10-12"
+     * @param input The string to parse
+     * @param lowerBound The smallest value accepted
+     * @param upperBound The biggest value accepted
+     * @return The list of all the integers described by the input, in the order they appear
+     */
+    List<Integer> parseIntegerRanges(String input, int lowerBound, int upperBound) {
+        List<Integer> integers = new ArrayList<>();
+
+        // "1-5,8" -> ["1-5", "8"]
+        for (String range : input.split(",")) {
+            // "1-5" -> ["1", "5"] and "8" -> ["8"]
+            String[] bounds = range.trim().split("-");
+
+            if (bounds.length > 2 || !isInteger(bounds[0]) || !isInteger(bounds[bounds.length - 1])) {
+                throw new IllegalArgumentException(String.format("'%s' is not a valid range.", range));
+            }
+
+            int start = Integer.parseInt(bounds[0]);
+            int end = Integer.parseInt(bounds[bounds.length - 1]);
+
+            if (start > end || !isInRange(start, lowerBound, upperBound) || !isInRange(end, lowerBound, upperBound)) {
+                throw new IllegalArgumentException(
+                    String.format("'%s' must be between %d and %d.", range, lowerBound, upperBound)
+                );
+            }
+
+            for (int i = start; i <= end; i++) {
+                integers.add(i);
+            }
+        }
+
+        return integers;
+    }
 }
@@ -0,0 +1,195 @@
+package launcher;
+
+import lombok.Getter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+class LauncherOptions {
+    static final String USAGE = String.join("\n",
+        "Usage: Launcher [--days <ranges>] [--parts <ranges>] [--threads <count>]",
+        "                [--backend <platform|virtual>] [--daemon <port>]",
+        "                [--timeout <seconds>] [--no-cache] [--generate <scale>] [--seed <seed>]",
+        "                [--complexity <scales>] [--jfr <file>] [--inputs <directory>]",
+        "                [--bench <runs>] [--warmups <count>]",
+        "  --days     Days to run, e.g. 1-5,8 (default: all the days done)",
+        "  --parts    Parts to run, e.g. 1 or 1-2 (default: 1-2)",
+        "  --threads  Size of the thread pool (default: number of processors)",
+        "  --backend  platform runs everything on the thread pool, virtual starts a virtual thread",
+        "             per task and lets --threads of them use the CPU at the same time (default: platform)",
+        "  --daemon   Keep running and solve the requests sent to this port of the loopback",
+        "             interface, 0 for any free port (the days and parts are then ignored)",
+        "  --timeout  Stop the parts which check their time budget after this many seconds",
+        "             (default: no limit)",
+        "  --no-cache Solve every part again instead of using the answers stored in answers.store",
+        "  --generate Solve generated inputs this many times bigger than the real ones instead of",
+        "             the input files (default: the input files)",
+        "  --seed     Seed of the generated inputs, the same seed gives the same inputs (default: 2018)",
+        "  --complexity Measure the parts on generated inputs of these scales, e.g. 1,2,4,8,16, and",
+        "             report how their time and allocations grow with the size of the input",
+        "  --jfr      Write a flight recording of the run to this file, with the parts and the phases",
+        "             of the solvers, to be opened with JDK Mission Control",
+        "  --inputs   Solve the day given with --days on every file of this directory in parallel,",
+        "             and report the answers of each file with the throughput and latency",
+        "  --bench    Run each part this many times after warming it up, and report the distribution",
+        "             of its times next to the time of its first, cold, run",
+        "  --warmups  Runs of each part before measuring it with --bench (default: 5)",
+        "Without any argument the launcher asks for the day and part to run."
+    );
+
+    private List<Integer> days = new ArrayList<>(ExecutableRegistry.getAvailableDays());
+    private List<Integer> parts = Arrays.asList(1, 2);
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private String backend = "platform";
+    // -1 when not running as a daemon
+    private int daemonPort = -1;
+    // 0 when the parts have no time budget
+    private int timeoutSeconds = 0;
+    private boolean answerStoreEnabled = true;
+    // 0 to solve the input files rather than generated inputs
+    private int generatedScale = 0;
+    private long seed = 2018;
+    // Empty when not measuring the complexity of the parts
+    private List<Integer> complexityScales = new ArrayList<>();
+    // Null when no flight recording has been asked for
+    private Path jfrPath = null;
+    // Null when solving the input file of each day
+    private Path inputsDirectory = null;
+    // 0 when not benchmarking the parts
+    private int benchmarkRuns = 0;
+    private int warmups = 5;
+
+    /**
+     * Parse the command line arguments of the launcher
+     * @param args The arguments given to the main method
+     * @return The options, with the default values for the arguments that were not given
+     * @throws IllegalArgumentException If one of the arguments is unknown or invalid
+     */
+    static LauncherOptions parse(String[] args) {
+        LauncherOptions options = new LauncherOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            // The flags don't have any value
+            if (args[i].equals("--no-cache")) {
+                options.answerStoreEnabled = false;
+                continue;
+            }
+
+            // The other options are followed by their value
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(String.format("Missing value for '%s'.", args[i]));
+            }
+
+            String option = args[i];
+            String value = args[++i];
+
+            switch (option) {
+                case "--days":
+                    options.days = LauncherHelper.parseIntegerRanges(value, 1, 25);
+                    break;
+                case "--parts":
+                    options.parts = LauncherHelper.parseIntegerRanges(value, 1, 2);
+                    break;
+                case "--threads":
+                    options.threads = LauncherHelper.parseInteger(value, 1, Short.MAX_VALUE);
+                    break;
+                case "--backend":
+                    // Fail now rather than when the backend is created
+                    ExecutionBackend.create(value, 1).close();
+                    options.backend = value;
+                    break;
+                case "--timeout":
+                    options.timeoutSeconds = LauncherHelper.parseInteger(value, 1, Integer.MAX_VALUE);
+                    break;
+                case "--generate":
+                    options.generatedScale = LauncherHelper.parseInteger(value, 1, Integer.MAX_VALUE);
+                    break;
+                case "--seed":
+                    options.seed = parseSeed(value);
+                    break;
+                case "--complexity":
+                    options.complexityScales = LauncherHelper.parseIntegerRanges(value, 1, Integer.MAX_VALUE);
+
+                    if (new TreeSet<>(options.complexityScales).size() < ComplexityReport.MINIMUM_SIZES) {
+                        throw new IllegalArgumentException(String.format(
+                            "At least %d different scales are needed to fit a curve.",
+                            ComplexityReport.MINIMUM_SIZES
+                        ));
+                    }
+                    break;
+                case "--jfr":
+                    options.jfrPath = Paths.get(value);
+                    break;
+                case "--bench":
+                    options.benchmarkRuns = LauncherHelper.parseInteger(value, 1, Integer.MAX_VALUE);
+                    break;
+                case "--warmups":
+                    options.warmups = LauncherHelper.parseInteger(value, 0, Integer.MAX_VALUE);
+                    break;
+                case "--inputs":
+                    options.inputsDirectory = Paths.get(value);
+
+                    if (!Files.isDirectory(options.inputsDirectory)) {
+                        throw new IllegalArgumentException(String.format("'%s' is not a directory.", value));
+                    }
+                    break;
+                case "--daemon":
+                    options.daemonPort = LauncherHelper.parseInteger(value, 0, 65535);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown option '%s'.", option));
+            }
+        }
+
+        // Checked once all the options are known, as they can be given in any order
+        if (options.isMultiInput() && options.days.size() != 1) {
+            throw new IllegalArgumentException("--inputs solves a single day, give it with --days.");
+        }
+
+        return options;
+    }
+
+    private static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("'%s' is not a valid seed.", value));
+        }
+    }
+
+    /**
+     * @return The backend chosen by the options, with the time budget of the parts
+     */
+    ExecutionBackend createBackend() {
+        ExecutionBackend executionBackend = ExecutionBackend.create(backend, threads);
+        executionBackend.setTimeout(TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        return executionBackend;
+    }
+
+    boolean isDaemon() {
+        return daemonPort >= 0;
+    }
+
+    boolean isComplexityReport() {
+        return !complexityScales.isEmpty();
+    }
+
+    boolean isBenchmark() {
+        return benchmarkRuns > 0;
+    }
+
+    boolean isMultiInput() {
+        return inputsDirectory != null;
+    }
+
+    boolean isGenerated() {
+        return generatedScale > 0;
+    }
+}
@@ -0,0 +1,271 @@
+package launcher;
+
+import lombok.SneakyThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only view of an input file mapped in memory. The bytes are never copied on the heap,
+ * each byte is seen as one char so this is only meant for ASCII inputs, which all the inputs are.
+ */
+public final class MappedInput implements CharSequence {
+    private final ByteBuffer buffer;
+
+    private MappedInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Map a whole file in memory
+     * @param path The path of the file to map
+     * @return A view over the content of the file
+     */
+    @SneakyThrows
+    public static MappedInput map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return map(channel, 0, channel.size());
+        }
+    }
+
+    /**
+     * Map a region of a file in memory, a single region can't be bigger than 2 GB
+     * @param channel The channel of the file to map, it can be closed once the region is mapped
+     * @param position The position in the file where the region starts
+     * @param size The size of the region in bytes
+     * @return A view over the region of the file
+     */
+    @SneakyThrows
+    public static MappedInput map(FileChannel channel, long position, long size) {
+        return new MappedInput(channel.map(FileChannel.MapMode.READ_ONLY, position, size).asReadOnlyBuffer());
+    }
+
+    /**
+     * Wrap bytes already in memory, the buffer is not copied
+     * @param buffer The bytes to wrap, from its position to its limit
+     * @return A view over the bytes
+     */
+    public static MappedInput wrap(ByteBuffer buffer) {
+        return new MappedInput(buffer.slice().asReadOnlyBuffer());
+    }
+
+    /**
+     * @return A read-only buffer over the bytes of the input, independent of the ones
+     *         returned before
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.duplicate();
+    }
+
+    /**
+     * Get the byte at the given index without converting it to a char
+     * @param index The index of the byte
+     * @return The byte at the index
+     */
+    public byte byteAt(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        // Mask to not get negative chars for the bytes above 127
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    public MappedInput subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException(String.format("[%d, %d) out of [0, %d)", start, end, length()));
+        }
+
+        // Slice a duplicate to not touch the position and limit of this buffer
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(start);
+        duplicate.limit(end);
+
+        return new MappedInput(duplicate.slice());
+    }
+
+    /**
+     * Copy the content of the view in a String, this is the only method which copies the bytes
+     * @return The content as a String
+     */
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return A cursor over the lines of the input, "\n" and "\r\n" are both accepted
+     */
+    public LineCursor lines() {
+        return new LineCursor(this);
+    }
+
+    /**
+     * @return A cursor over the tokens of the input separated by white spaces
+     */
+    public TokenCursor tokens() {
+        return tokens(" \t\r\n");
+    }
+
+    /**
+     * @param delimiters All the chars that separate two tokens
+     * @return A cursor over the tokens of the input separated by any of the delimiters
+     */
+    public TokenCursor tokens(String delimiters) {
+        return new TokenCursor(this, delimiters);
+    }
+
+    /**
+     * Walk the lines of an input without creating any object, the current line is given as
+     * the offsets of its first char and of the char after its last one.
+     */
+    public static final class LineCursor {
+        private final MappedInput input;
+        private int start = -1;
+        private int end = -1;
+        // Where the next line begins
+        private int next = 0;
+
+        private LineCursor(MappedInput input) {
+            this.input = input;
+        }
+
+        /**
+         * Move to the next line
+         * @return false if there is no more line
+         */
+        public boolean next() {
+            int length = input.length();
+
+            if (next >= length) {
+                return false;
+            }
+
+            start = next;
+            int index = start;
+
+            while (index < length && input.byteAt(index) != '\n') {
+                index++;
+            }
+
+            // Skip the new line for the next call
+            next = index + 1;
+
+            // Don't include the carriage return of windows line endings
+            if (index > start && input.byteAt(index - 1) == '\r') {
+                index--;
+            }
+
+            end = index;
+
+            return true;
+        }
+
+        /**
+         * @return The offset of the first char of the current line
+         */
+        public int start() {
+            return start;
+        }
+
+        /**
+         * @return The offset after the last char of the current line
+         */
+        public int end() {
+            return end;
+        }
+
+        /**
+         * @return A view over the current line, the bytes are not copied
+         */
+        public MappedInput line() {
+            return input.subSequence(start, end);
+        }
+    }
+
+    /**
+     * Walk the tokens of an input without creating any object, the current token is given as
+     * the offsets of its first char and of the char after its last one.
+     */
+    public static final class TokenCursor {
+        private final MappedInput input;
+        // Lookup table of the delimiters, only ASCII delimiters are supported
+        private final boolean[] isDelimiter = new boolean[128];
+        private int start = -1;
+        private int end = 0;
+
+        private TokenCursor(MappedInput input, String delimiters) {
+            this.input = input;
+
+            for (char delimiter : delimiters.toCharArray()) {
+                isDelimiter[delimiter] = true;
+            }
+        }
+
+        private boolean isDelimiter(int index) {
+            byte b = input.byteAt(index);
+            return b >= 0 && isDelimiter[b];
+        }
+
+        /**
+         * Move to the next token
+         * @return false if there is no more token
+         */
+        public boolean next() {
+            int length = input.length();
+            int index = end;
+
+            // Skip the delimiters before the token
+            while (index < length && isDelimiter(index)) {
+                index++;
+            }
+
+            if (index >= length) {
+                return false;
+            }
+
+            start = index;
+
+            while (index < length && !isDelimiter(index)) {
+                index++;
+            }
+
+            end = index;
+
+            return true;
+        }
+
+        /**
+         * @return The offset of the first char of the current token
+         */
+        public int start() {
+            return start;
+        }
+
+        /**
+         * @return The offset after the last char of the current token
+         */
+        public int end() {
+            return end;
+        }
+
+        /**
+         * @return A view over the current token, the bytes are not copied
+         */
+        public MappedInput token() {
+            return input.subSequence(start, end);
+        }
+    }
+}
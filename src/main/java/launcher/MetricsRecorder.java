@@ -0,0 +1,112 @@
+package launcher;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measure the wall time, CPU time, allocated bytes and garbage collections of some work done
+ * by the current thread. Start it right before the work and stop it right after, from the
+ * same thread:
+ * <pre>
+ * MetricsRecorder recorder = MetricsRecorder.start();
+ * String answer = executable.executePartOne();
+ * ExecutionMetrics metrics = recorder.stop();
+ * </pre>
+ */
+public final class MetricsRecorder {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    // The allocated bytes are only available on the HotSpot extension of the ThreadMXBean
+    private static final com.sun.management.ThreadMXBean HOTSPOT_THREAD_MX_BEAN =
+        THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+            ? (com.sun.management.ThreadMXBean) THREAD_MX_BEAN
+            : null;
+
+    private final Thread thread;
+    private final long startWallTime;
+    private final long startCpuTime;
+    private final long startAllocatedBytes;
+    private final long startGcCount;
+    private final long startGcTime;
+
+    private MetricsRecorder() {
+        this.thread = Thread.currentThread();
+        this.startGcCount = getGcCount();
+        this.startGcTime = getGcTimeMillis();
+        this.startAllocatedBytes = getAllocatedBytes();
+        this.startCpuTime = getCpuTime();
+        // Read last so reading the other values is not counted
+        this.startWallTime = System.nanoTime();
+    }
+
+    /**
+     * @return A recorder measuring the current thread from now on
+     */
+    public static MetricsRecorder start() {
+        return new MetricsRecorder();
+    }
+
+    /**
+     * @return What the current thread did since the recorder was started
+     * @throws IllegalStateException If called from another thread than the one which started it
+     */
+    public ExecutionMetrics stop() {
+        long wallTime = System.nanoTime() - startWallTime;
+
+        if (thread != Thread.currentThread()) {
+            throw new IllegalStateException("The recorder must be stopped by the thread which started it.");
+        }
+
+        long cpuTime = getCpuTime();
+        long allocatedBytes = getAllocatedBytes();
+
+        return new ExecutionMetrics(
+            wallTime,
+            cpuTime < 0 || startCpuTime < 0 ? -1 : cpuTime - startCpuTime,
+            allocatedBytes < 0 || startAllocatedBytes < 0 ? -1 : allocatedBytes - startAllocatedBytes,
+            getGcCount() - startGcCount,
+            getGcTimeMillis() - startGcTime
+        );
+    }
+
+    private static long getCpuTime() {
+        if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() || !THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            return -1;
+        }
+
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    private static long getAllocatedBytes() {
+        if (HOTSPOT_THREAD_MX_BEAN == null
+            || !HOTSPOT_THREAD_MX_BEAN.isThreadAllocatedMemorySupported()
+            || !HOTSPOT_THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        return HOTSPOT_THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+
+        // Sum all the collectors, e.g. the young and old generations
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 when the collector doesn't give it
+            count += Math.max(garbageCollector.getCollectionCount(), 0);
+        }
+
+        return count;
+    }
+
+    private static long getGcTimeMillis() {
+        long time = 0;
+
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(garbageCollector.getCollectionTime(), 0);
+        }
+
+        return time;
+    }
+}
@@ -0,0 +1,93 @@
+package launcher;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+
+/**
+ * Run each part a few times to warm it up, then some more times to measure it, and print the
+ * distribution of the measured times next to the time of the very first run. It is much quicker
+ * than the JMH benchmarks and shows how much the JIT changes the time of a part, which a single
+ * run of the launcher hides. Each run gets a new executable from the registry and parses the input
+ * again, so nothing left by a run, like the game state modified by day 15, changes the next one.
+ */
+@UtilityClass
+class MicroBenchmark {
+    /**
+     * Benchmark all the parts of all the days given in the options, with the number of warm-up
+     * and measured runs given in the options, and print a table
+     * @param options The options given to the launcher
+     */
+    void run(LauncherOptions options) {
+        // A stored answer would be measured instead of the solver
+        AnswerStore.setEnabled(false);
+
+        System.out.printf(
+            "%d warm-up runs and %d measured runs per part, the cold run being the first one%n%n",
+            options.getWarmups(),
+            options.getBenchmarkRuns()
+        );
+
+        String format = "%-3s | %-4s | %12s | %12s | %12s | %12s | %12s | %12s%n";
+        System.out.printf(format, "Day", "Part", "Cold", "Min", "Median", "p90", "p99", "Max");
+        System.out.print(String.format(format, "", "", "", "", "", "", "", "").replace(' ', '-').replace('|', '+'));
+
+        for (int day : options.getDays()) {
+            for (int part : options.getParts()) {
+                benchmark(day, part, options.getWarmups(), options.getBenchmarkRuns(), format);
+            }
+        }
+    }
+
+    private void benchmark(int day, int part, int warmups, int runs, String format) {
+        long[] times = new long[runs];
+        long coldTime = -1;
+
+        try {
+            for (int i = 0; i < warmups + runs; i++) {
+                long time = measure(day, part);
+
+                if (i == 0) {
+                    coldTime = time;
+                }
+
+                if (i >= warmups) {
+                    times[i - warmups] = time;
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.printf("%02d  | %-4d | ERROR: %s%n", day, part, e);
+            return;
+        }
+
+        Arrays.sort(times);
+
+        System.out.printf(
+            format,
+            String.format("%02d", day),
+            part,
+            BatchLauncher.formatNanos(coldTime),
+            BatchLauncher.formatNanos(times[0]),
+            BatchLauncher.formatNanos(ThroughputRun.percentile(times, 50)),
+            BatchLauncher.formatNanos(ThroughputRun.percentile(times, 90)),
+            BatchLauncher.formatNanos(ThroughputRun.percentile(times, 99)),
+            BatchLauncher.formatNanos(times[times.length - 1])
+        );
+    }
+
+    /**
+     * @return The wall time of the part, with the parsing of its input
+     */
+    private long measure(int day, int part) {
+        // The launcher gets a new executable from the registry on each call
+        ExecutionResult result = Launcher.execute(day, part);
+
+        if (!result.isSuccessful()) {
+            throw new IllegalStateException("The part failed", result.getError());
+        }
+
+        return result.getParseMetrics() != null
+            ? result.getParseTimeNanos() + result.getWallTimeNanos()
+            : result.getWallTimeNanos();
+    }
+}
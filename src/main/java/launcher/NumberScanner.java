@@ -0,0 +1,235 @@
+package launcher;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Pull the signed numbers out of some text without splitting it, creating Strings or boxing.
+ * Everything that is not part of a number is a separator, so "position=< 3, -2>", "[3, 2, 1, 1]"
+ * or "404 players; last marble is worth 71852 points" can be scanned directly.
+ * A '-' is the sign of the number it precedes unless it directly follows a digit, so the
+ * date "1518-11-01" gives 1518, 11 and 1.
+ */
+public final class NumberScanner {
+    private final List<? extends CharSequence> sources;
+    // The index of the source being scanned in the list of sources
+    private int sourceIndex = 0;
+    private CharSequence source;
+    private int position = 0;
+    // Where the next number starts once hasNext found it, -1 when it has to be searched
+    private int numberStart = -1;
+
+    /**
+     * @param source The text to scan, e.g. a String or a MappedInput
+     */
+    public NumberScanner(CharSequence source) {
+        this(Collections.singletonList(source));
+    }
+
+    /**
+     * @param lines The lines to scan one after the other, the end of a line separates two numbers
+     */
+    public NumberScanner(List<? extends CharSequence> lines) {
+        this.sources = lines;
+        this.source = lines.isEmpty() ? "" : lines.get(0);
+    }
+
+    /**
+     * Parse all the numbers of a text
+     * @param source The text to scan
+     * @return All the numbers in the order they appear
+     */
+    public static int[] parseInts(CharSequence source) {
+        return new NumberScanner(source).remainingInts();
+    }
+
+    /**
+     * Parse all the numbers of a list of lines
+     * @param lines The lines to scan
+     * @return All the numbers in the order they appear
+     */
+    public static int[] parseInts(List<? extends CharSequence> lines) {
+        return new NumberScanner(lines).remainingInts();
+    }
+
+    /**
+     * Give all the numbers of a text to a callback without storing them
+     * @param source The text to scan
+     * @param consumer The callback receiving each number in the order they appear
+     */
+    public static void forEachInt(CharSequence source, IntConsumer consumer) {
+        NumberScanner scanner = new NumberScanner(source);
+
+        while (scanner.hasNext()) {
+            consumer.accept(scanner.nextInt());
+        }
+    }
+
+    /**
+     * Give all the numbers of a text to a callback without storing them
+     * @param source The text to scan
+     * @param consumer The callback receiving each number in the order they appear
+     */
+    public static void forEachLong(CharSequence source, LongConsumer consumer) {
+        NumberScanner scanner = new NumberScanner(source);
+
+        while (scanner.hasNext()) {
+            consumer.accept(scanner.nextLong());
+        }
+    }
+
+    private boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return true if there is another number to read
+     */
+    public boolean hasNext() {
+        if (numberStart != -1) {
+            return true;
+        }
+
+        while (true) {
+            int length = source.length();
+
+            for (; position < length; position++) {
+                char c = source.charAt(position);
+
+                if (isDigit(c)) {
+                    numberStart = position;
+                    return true;
+                }
+
+                // A sign is only a sign if a digit follows and no digit precedes it
+                if ((c == '-' || c == '+')
+                    && position + 1 < length
+                    && isDigit(source.charAt(position + 1))
+                    && (position == 0 || !isDigit(source.charAt(position - 1)))) {
+                    numberStart = position;
+                    return true;
+                }
+            }
+
+            // Nothing left in this source, continue with the next one
+            if (sourceIndex + 1 >= sources.size()) {
+                return false;
+            }
+
+            source = sources.get(++sourceIndex);
+            position = 0;
+        }
+    }
+
+    /**
+     * @return The next number as a long
+     * @throws NoSuchElementException If there is no more number
+     * @throws NumberFormatException If the number doesn't fit in a long
+     */
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more number to read.");
+        }
+
+        int length = source.length();
+        int start = numberStart;
+        position = numberStart;
+        numberStart = -1;
+
+        boolean negative = false;
+        char first = source.charAt(position);
+
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+        }
+
+        // Accumulated as a negative number like Long.parseLong does, so Long.MIN_VALUE can be read
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+
+        while (position < length && isDigit(source.charAt(position))) {
+            int digit = source.charAt(position) - '0';
+
+            // Checked before each digit so the overflow is detected before it happens
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                throw outOfRange(start);
+            }
+
+            value = value * 10 - digit;
+            position++;
+        }
+
+        return negative ? value : -value;
+    }
+
+    /**
+     * @return The next number as an int
+     * @throws NoSuchElementException If there is no more number
+     * @throws NumberFormatException If the number doesn't fit in an int
+     */
+    public int nextInt() {
+        // Finds where the number starts, nextLong throws if there is none
+        hasNext();
+        int start = numberStart;
+        long value = nextLong();
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw outOfRange(start);
+        }
+
+        return (int) value;
+    }
+
+    /**
+     * Skip the rest of the number which can't be read and describe it like Integer.parseInt does
+     * @param start Where the number starts in the current source
+     */
+    private NumberFormatException outOfRange(int start) {
+        int length = source.length();
+
+        while (position < length && isDigit(source.charAt(position))) {
+            position++;
+        }
+
+        return new NumberFormatException(String.format("For input string: \"%s\"", source.subSequence(start, position)));
+    }
+
+    /**
+     * Read the next numbers in an array
+     * @param destination The array to fill
+     * @return The number of numbers read, less than the size of the array if there was no more
+     */
+    public int nextInts(int[] destination) {
+        int count = 0;
+
+        while (count < destination.length && hasNext()) {
+            destination[count++] = nextInt();
+        }
+
+        return count;
+    }
+
+    /**
+     * @return All the numbers left to read
+     */
+    public int[] remainingInts() {
+        int[] numbers = new int[16];
+        int count = 0;
+
+        while (hasNext()) {
+            // Grow the array like an ArrayList would, without boxing the numbers
+            if (count == numbers.length) {
+                numbers = Arrays.copyOf(numbers, count * 2);
+            }
+
+            numbers[count++] = nextInt();
+        }
+
+        return Arrays.copyOf(numbers, count);
+    }
+}
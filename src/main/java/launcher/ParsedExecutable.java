@@ -0,0 +1,40 @@
+package launcher;
+
+import java.util.List;
+
+/**
+ * An executable which parses its input once into a model and gives it to both parts,
+ * so the launcher can parse the input once and run both parts from it.
+ * @param <T> The type of the model parsed from the input
+ */
+public interface ParsedExecutable<T> extends Executable {
+    /**
+     * Parse the lines of the input into the model used by both parts
+     * @param input The lines of the input file
+     * @return The model of the input
+     */
+    T parse(List<String> input);
+
+    /**
+     * Execute part one of the choosen day from the parsed input
+     * @param model The model returned by parse
+     * @return The result as a String for the choosen day
+     */
+    String executePartOne(T model);
+
+    /**
+     * Execute part two of the choosen day from the parsed input
+     * @param model The model returned by parse
+     * @return The result as a String for the choosen day
+     */
+    String executePartTwo(T model);
+
+    /**
+     * Tell if the parts only read the model, in this case the same model can be given to both
+     * parts at the same time. Else each part needs its own model.
+     * @return true if the parts don't modify the model
+     */
+    default boolean isModelShareable() {
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package launcher;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by the launcher around the solving of each part, the phases of the part are nested in it
+ */
+@Name("aoc.PartExecution")
+@Label("Part Execution")
+@Category("Advent of Code")
+@Description("The solving of a part of a day, without the parsing when the day parses its input separately")
+class PartExecutionEvent extends Event {
+    @Label("Day")
+    int day;
+
+    @Label("Part")
+    int part;
+
+    @Label("Successful")
+    boolean successful;
+}
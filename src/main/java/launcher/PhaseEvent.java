@@ -0,0 +1,30 @@
+package launcher;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for each phase opened by the launcher, like reading and parsing the input, or by a solver
+ */
+@Name("aoc.Phase")
+@Label("Solver Phase")
+@Category("Advent of Code")
+@Description("A named phase of a day, the phases opened by the solvers are nested in their part")
+class PhaseEvent extends Event {
+    @Label("Day")
+    int day;
+
+    @Label("Part")
+    @Description("0 when the phase is shared by both parts, like the parsing of a shared model")
+    int part;
+
+    @Label("Name")
+    String name;
+
+    @Label("Depth")
+    @Description("1 for the phases opened by the launcher or directly in a part, 2 for the phases nested in them, etc.")
+    int depth;
+}
@@ -0,0 +1,50 @@
+package launcher;
+
+import lombok.Value;
+
+/**
+ * How far a part is in its longest loop, as last reported by the part
+ */
+@Value
+public class Progress {
+    private int day;
+    private int part;
+    // What the part counts, e.g. marbles or recipes
+    private String unit;
+    private long done;
+    // -1 when the part doesn't know how many units it has to go through
+    private long total;
+    private double unitsPerSecond;
+
+    /**
+     * @return e.g. "4.2M of 7.2M marbles (58%), 3.1M marbles/s"
+     */
+    public String describe() {
+        String rate = String.format("%s %s/s", formatCount((long) unitsPerSecond), unit);
+
+        if (total < 0) {
+            return String.format("%s %s, %s", formatCount(done), unit, rate);
+        }
+
+        return String.format(
+            "%s of %s %s (%d%%), %s",
+            formatCount(done),
+            formatCount(total),
+            unit,
+            total > 0 ? done * 100 / total : 100,
+            rate
+        );
+    }
+
+    private static String formatCount(long count) {
+        if (count >= 1_000_000) {
+            return String.format("%.1fM", count / 1_000_000.0);
+        }
+
+        if (count >= 1_000) {
+            return String.format("%.1fk", count / 1_000.0);
+        }
+
+        return String.valueOf(count);
+    }
+}
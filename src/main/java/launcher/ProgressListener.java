@@ -0,0 +1,14 @@
+package launcher;
+
+/**
+ * Told how far the parts are, at most a few times per second for each part
+ */
+interface ProgressListener {
+    ProgressListener NONE = progress -> { };
+
+    /**
+     * Called from the thread solving the part, so it should be quick
+     * @param progress The last progress reported by the part
+     */
+    void onProgress(Progress progress);
+}
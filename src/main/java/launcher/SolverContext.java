@@ -0,0 +1,68 @@
+package launcher;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * The time budget of the part being solved by the current thread. The solvers looping until
+ * they find their answer should call checkCancelled in their loops, so a part which never finds
+ * its answer is stopped when its budget is spent instead of running forever.
+ */
+public final class SolverContext {
+    private static final ThreadLocal<SolverContext> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long budgetNanos;
+
+    private SolverContext(long budgetNanos) {
+        this.startNanos = System.nanoTime();
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Stop the current part if its budget is spent or if its thread has been interrupted,
+     * it does nothing outside of the launcher.
+     * @throws CancellationException If the current part has to stop
+     */
+    public static void checkCancelled() {
+        SolverContext context = CURRENT.get();
+
+        // Compare the elapsed time rather than the times themselves as nanoTime can overflow
+        if (context != null && System.nanoTime() - context.startNanos > context.budgetNanos) {
+            throw new CancellationException(
+                String.format("The time budget of %d ms has been spent.", context.budgetNanos / 1_000_000)
+            );
+        }
+
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("The thread has been interrupted.");
+        }
+    }
+
+    /**
+     * Run some work with a time budget, the work is stopped at its next call to checkCancelled
+     * once the budget is spent
+     * @param budgetNanos The time budget in nanoseconds, 0 or less for no budget
+     * @param work The work to do
+     * @return The result of the work
+     */
+    static <T> T runWithBudget(long budgetNanos, Supplier<T> work) {
+        if (budgetNanos <= 0) {
+            return work.get();
+        }
+
+        // Keep the context of the caller when the calling thread runs the work itself
+        SolverContext previous = CURRENT.get();
+        CURRENT.set(new SolverContext(budgetNanos));
+
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
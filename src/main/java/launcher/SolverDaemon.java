@@ -0,0 +1,320 @@
+package launcher;
+
+import lombok.SneakyThrows;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Keep the JVM running and solve the days asked through a socket, so the classes are loaded and
+ * the code is compiled by the JIT once for all the requests. Only the loopback interface is
+ * listened to. Each connection sends one request per line:
+ * <pre>
+ * SOLVE &lt;day&gt; &lt;parts&gt;                  Solve on the input file of the day
+ * SOLVE &lt;day&gt; &lt;parts&gt; &lt;path&gt;           Solve on another input file of the daemon's machine
+ * SOLVE &lt;day&gt; &lt;parts&gt; INLINE &lt;count&gt;   Solve on the count lines sent after the request
+ * QUIT                               Close the connection
+ * SHUTDOWN                           Stop the daemon
+ * </pre>
+ * The parts are given like the --parts option, e.g. 1 or 1-2. Each part is answered as soon as it
+ * is solved with a line "OK day part parseNanos wallNanos cpuNanos allocatedBytes lineCount"
+ * followed by the lines of the answer, or with a line "ERROR day part message". A line "END" closes
+ * the response, a malformed request is answered with "ERROR message" and "END". An inline input is
+ * limited to 4194304 lines and 64 MB of characters, the connection is closed after the error as the
+ * rest of a payload too big can't be told apart from the next requests. While the long
+ * loops of a part run, at most a few times per second, lines
+ * "PROGRESS day part done total unitsPerSecond unit" tell how far it is, total being -1 when the
+ * part doesn't know it.
+ */
+class SolverDaemon implements Closeable {
+    // A single request can't make the daemon keep more than this in memory
+    private static final int MAXIMUM_INLINE_LINES = 1 << 22;
+    private static final long MAXIMUM_INLINE_CHARS = 64L * 1024 * 1024;
+
+    private final ServerSocket serverSocket;
+    // The parsing and the parts of all the connections are run on the same backend
+    private final ExecutionBackend backend;
+    // One thread per connection, waiting on the socket most of the time
+    private final ExecutorService connectionPool = Executors.newCachedThreadPool();
+
+    /**
+     * @param port The port to listen to, 0 to choose any free port
+     * @param backend The backend solving the requests, closed with the daemon
+     */
+    @SneakyThrows
+    SolverDaemon(int port, ExecutionBackend backend) {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.backend = backend;
+    }
+
+    /**
+     * @return The port listened to, useful when it was chosen by the system
+     */
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accept the connections until the daemon is closed
+     */
+    @SneakyThrows
+    void serve() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                // The server socket has been closed while waiting, e.g. by a SHUTDOWN request
+                return;
+            }
+
+            connectionPool.execute(() -> handleConnection(socket));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connectionPool.shutdownNow();
+        backend.close();
+    }
+
+    private void handleConnection(Socket socket) {
+        try (
+            Socket closedSocket = socket;
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+            );
+            PrintWriter writer = new PrintWriter(
+                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)
+            )
+        ) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                String[] request = line.trim().split("\\s+", 4);
+
+                switch (request[0].toUpperCase()) {
+                    case "SOLVE":
+                        if (!handleSolve(request, reader, writer)) {
+                            return;
+                        }
+                        break;
+                    case "QUIT":
+                        return;
+                    case "SHUTDOWN":
+                        close();
+                        return;
+                    case "":
+                        // Ignore the empty lines
+                        break;
+                    default:
+                        writeError(writer, String.format("Unknown request '%s'.", request[0]));
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            // The client went away, there is nobody left to answer
+        }
+    }
+
+    /**
+     * @return false if the connection has to be closed
+     */
+    private boolean handleSolve(String[] request, BufferedReader reader, PrintWriter writer) throws IOException {
+        int day;
+        List<Integer> parts;
+        Supplier<List<String>> input = null;
+
+        try {
+            if (request.length < 3) {
+                throw new IllegalArgumentException("Expected: SOLVE <day> <parts> [<path> | INLINE <count>]");
+            }
+
+            day = LauncherHelper.parseInteger(request[1], 1, 25);
+            parts = LauncherHelper.parseIntegerRanges(request[2], 1, 2);
+
+            if (request.length == 4) {
+                input = parseInput(request[3], reader);
+            }
+        } catch (IllegalArgumentException e) {
+            writeError(writer, e.getMessage());
+            return true;
+        } catch (PayloadTooLargeException e) {
+            writeError(writer, e.getMessage());
+            return false;
+        }
+
+        // The parts report their progress from the threads of the backend
+        ProgressListener progress = update -> writeProgress(writer, update);
+
+        // Answer each part as soon as it is solved, in the order of the parts
+        for (CompletableFuture<ExecutionResult> future : Launcher.executeAsync(day, parts, input, backend, progress)) {
+            writeResult(writer, future.join());
+        }
+
+        synchronized (writer) {
+            writer.println("END");
+            writer.flush();
+        }
+
+        return true;
+    }
+
+    private Supplier<List<String>> parseInput(String argument, BufferedReader reader) throws IOException {
+        String[] inline = argument.split("\\s+");
+
+        if (!inline[0].equalsIgnoreCase("INLINE")) {
+            // Everything after the parts is the path, so it can contain spaces
+            return () -> ChallengeHelper.readInputData(Paths.get(argument));
+        }
+
+        if (inline.length != 2) {
+            throw new IllegalArgumentException("Expected: INLINE <count>");
+        }
+
+        int count = LauncherHelper.parseInteger(inline[1], 0, Integer.MAX_VALUE);
+
+        if (count > MAXIMUM_INLINE_LINES) {
+            throw new PayloadTooLargeException(String.format("At most %d inline lines are accepted.", MAXIMUM_INLINE_LINES));
+        }
+
+        List<String> lines = new ArrayList<>();
+        long remainingChars = MAXIMUM_INLINE_CHARS;
+
+        // Read the whole payload before solving, so the connection is ready for the next request
+        for (int i = 0; i < count; i++) {
+            String line = readLine(reader, remainingChars);
+
+            if (line == null) {
+                throw new IOException("The connection has been closed in the middle of the payload.");
+            }
+
+            remainingChars -= line.length();
+            lines.add(line);
+        }
+
+        return () -> lines;
+    }
+
+    /**
+     * Read a line like BufferedReader.readLine, but without keeping more than a limit in memory
+     * @param limit The maximum number of characters of the line
+     * @return The line without its end, null at the end of the stream
+     * @throws PayloadTooLargeException If the line is longer than the limit
+     */
+    private String readLine(BufferedReader reader, long limit) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() >= limit) {
+                throw new PayloadTooLargeException(String.format(
+                    "At most %d inline characters are accepted.",
+                    MAXIMUM_INLINE_CHARS
+                ));
+            }
+
+            line.append((char) c);
+        }
+
+        if (c == -1 && line.length() == 0) {
+            return null;
+        }
+
+        // A line can also end with "\r\n"
+        int length = line.length();
+        return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+    }
+
+    private void writeProgress(PrintWriter writer, Progress progress) {
+        synchronized (writer) {
+            writer.printf(
+                "PROGRESS %d %d %d %d %d %s%n",
+                progress.getDay(),
+                progress.getPart(),
+                progress.getDone(),
+                progress.getTotal(),
+                (long) progress.getUnitsPerSecond(),
+                progress.getUnit()
+            );
+            writer.flush();
+        }
+    }
+
+    private void writeResult(PrintWriter writer, ExecutionResult result) {
+        synchronized (writer) {
+            writeResultLines(writer, result);
+        }
+    }
+
+    private void writeResultLines(PrintWriter writer, ExecutionResult result) {
+        if (!result.isSuccessful()) {
+            writer.printf("ERROR %d %d %s%n", result.getDay(), result.getPart(), describe(result.getError()));
+            writer.flush();
+            return;
+        }
+
+        // The parsing counts in the CPU and allocations like in the table of the batch mode
+        ExecutionMetrics metrics = result.getParseMetrics() != null
+            ? result.getParseMetrics().plus(result.getMetrics())
+            : result.getMetrics();
+        String[] answerLines = String.valueOf(result.getAnswer()).split("\n", -1);
+
+        writer.printf(
+            "OK %d %d %d %d %d %d %d%n",
+            result.getDay(),
+            result.getPart(),
+            result.getParseTimeNanos(),
+            result.getWallTimeNanos(),
+            metrics.getCpuTimeNanos(),
+            metrics.getAllocatedBytes(),
+            answerLines.length
+        );
+
+        for (String answerLine : answerLines) {
+            writer.println(answerLine);
+        }
+
+        writer.flush();
+    }
+
+    private void writeError(PrintWriter writer, String message) {
+        synchronized (writer) {
+            writer.println("ERROR " + message);
+            writer.println("END");
+            writer.flush();
+        }
+    }
+
+    private String describe(Throwable error) {
+        // Keep the message on one line so it doesn't break the protocol
+        return String.valueOf(error).replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * An inline input bigger than the daemon accepts, the rest of it is not read
+     */
+    private static class PayloadTooLargeException extends RuntimeException {
+        private PayloadTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package launcher;
+
+import jdk.jfr.EventType;
+
+import java.util.function.Supplier;
+
+/**
+ * A named phase of a solver, recorded by Java Flight Recorder with the day and the part being
+ * solved so the phases show up on the timeline of the part. The solvers open their phases with
+ * try-with-resources, the phases opened inside another one are nested in it:
+ * <pre>
+ * try (SolverPhase phase = SolverPhase.open("find paths")) {
+ *     ...
+ * }
+ * </pre>
+ * Opening a phase costs nothing when no recording is listening to the phases.
+ */
+public final class SolverPhase implements AutoCloseable {
+    private static final EventType PHASE_EVENT_TYPE = EventType.getEventType(PhaseEvent.class);
+    // Given when the phases are not recorded, closing it does nothing
+    private static final SolverPhase DISABLED = new SolverPhase(null);
+    // The day and part solved by the current thread, and how deep its phases are nested
+    private static final ThreadLocal<Context> CURRENT = ThreadLocal.withInitial(() -> new Context(0, 0));
+
+    private final PhaseEvent event;
+
+    private SolverPhase(PhaseEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * Open a phase of the part being solved by the current thread
+     * @param name The name of the phase, shown in the recording
+     * @return The phase, to be closed when it is done
+     */
+    public static SolverPhase open(String name) {
+        if (!PHASE_EVENT_TYPE.isEnabled()) {
+            return DISABLED;
+        }
+
+        Context context = CURRENT.get();
+        PhaseEvent event = new PhaseEvent();
+        event.day = context.day;
+        event.part = context.part;
+        event.name = name;
+        event.depth = ++context.depth;
+        event.begin();
+
+        return new SolverPhase(event);
+    }
+
+    @Override
+    public void close() {
+        if (event == null) {
+            return;
+        }
+
+        event.commit();
+        CURRENT.get().depth--;
+    }
+
+    /**
+     * Solve a part, recorded as a part execution, the phases opened while solving it belong to it
+     * @param day The day of the part
+     * @param part The part solved
+     * @param work Solve the part
+     * @return The result of the part
+     */
+    static ExecutionResult recordPart(int day, int part, Supplier<ExecutionResult> work) {
+        PartExecutionEvent event = new PartExecutionEvent();
+        event.day = day;
+        event.part = part;
+        event.begin();
+
+        ExecutionResult result = runIn(day, part, work);
+
+        event.successful = result.isSuccessful();
+        event.commit();
+
+        return result;
+    }
+
+    /**
+     * Run a phase of the launcher, like reading or parsing the input
+     * @param day The day of the phase
+     * @param part The part of the phase, 0 when it is shared by both parts
+     * @param name The name of the phase
+     * @param work The work of the phase
+     * @return The result of the work
+     */
+    static <T> T recordPhase(int day, int part, String name, Supplier<T> work) {
+        return runIn(day, part, () -> {
+            try (SolverPhase phase = open(name)) {
+                return work.get();
+            }
+        });
+    }
+
+    private static <T> T runIn(int day, int part, Supplier<T> work) {
+        // Keep the context of the caller when the calling thread runs the work itself
+        Context previous = CURRENT.get();
+        CURRENT.set(new Context(day, part));
+
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    private static class Context {
+        private final int day;
+        private final int part;
+        private int depth = 0;
+
+        private Context(int day, int part) {
+            this.day = day;
+            this.part = part;
+        }
+    }
+}
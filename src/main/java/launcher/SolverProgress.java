@@ -0,0 +1,101 @@
+package launcher;
+
+import java.util.function.Supplier;
+
+/**
+ * The progress of the part being solved by the current thread. The long loops of the solvers
+ * report how many units they went through, the launcher shows it and computes the rate:
+ * <pre>
+ * for (int i = 0; i &lt; marbles; i++) {
+ *     if ((i &amp; 0xFFFF) == 0) {
+ *         SolverProgress.report("marbles", i, marbles);
+ *     }
+ *     ...
+ * }
+ * </pre>
+ * Reporting is cheap but not free, the very tight loops should only report every few thousands
+ * iterations. It does nothing outside of the launcher.
+ */
+public final class SolverProgress {
+    // The listeners are told at most this often, the parts can report much more often
+    private static final long PUBLISH_INTERVAL_NANOS = 250_000_000L;
+    private static final ThreadLocal<Tracker> CURRENT = new ThreadLocal<>();
+
+    private SolverProgress() {
+    }
+
+    /**
+     * Report how far the part is
+     * @param unit What the part counts, e.g. marbles or recipes
+     * @param done How many units the part went through
+     * @param total How many units the part has to go through, -1 if it doesn't know
+     */
+    public static void report(String unit, long done, long total) {
+        Tracker tracker = CURRENT.get();
+
+        if (tracker == null) {
+            return;
+        }
+
+        tracker.unit = unit;
+        tracker.done = done;
+        tracker.total = total;
+
+        long now = System.nanoTime();
+
+        if (now - tracker.lastPublishNanos >= PUBLISH_INTERVAL_NANOS) {
+            tracker.lastPublishNanos = now;
+            tracker.listener.onProgress(tracker.toProgress(now));
+        }
+    }
+
+    /**
+     * Solve a part while tracking its progress
+     * @param day The day of the part
+     * @param part The part solved
+     * @param listener Told of the progress of the part while it runs
+     * @param work Solve the part
+     * @return The result of the part, with its last progress
+     */
+    static ExecutionResult track(int day, int part, ProgressListener listener, Supplier<ExecutionResult> work) {
+        // Keep the tracker of the caller when the calling thread runs the work itself
+        Tracker previous = CURRENT.get();
+        Tracker tracker = new Tracker(day, part, listener);
+        CURRENT.set(tracker);
+
+        try {
+            ExecutionResult result = work.get();
+
+            // The parts which never reported have no progress
+            return tracker.unit != null ? result.withProgress(tracker.toProgress(System.nanoTime())) : result;
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    private static class Tracker {
+        private final int day;
+        private final int part;
+        private final ProgressListener listener;
+        private final long startNanos = System.nanoTime();
+        private long lastPublishNanos = startNanos;
+        private String unit;
+        private long done;
+        private long total;
+
+        private Tracker(int day, int part, ProgressListener listener) {
+            this.day = day;
+            this.part = part;
+            this.listener = listener;
+        }
+
+        private Progress toProgress(long now) {
+            double seconds = (now - startNanos) / 1_000_000_000.0;
+            return new Progress(day, part, unit, done, total, seconds > 0 ? done / seconds : 0);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package launcher;
+
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Solve one day on every input file of a directory, e.g. the inputs of many users, and report
+ * the answers of each input with the throughput and the latency of the whole run. The inputs are
+ * solved on a work-stealing pool, each input being one task solving all its parts, so a thread
+ * done with a quick input takes the next one while the others are still on a slow one.
+ */
+@UtilityClass
+class ThroughputRun {
+    // This many inputs are solved once before measuring anything, so the JIT has
+    // compiled the solver when the measured run starts
+    private final int WARMUP_INPUTS = 5;
+
+    /**
+     * Solve the day given in the options on all the files of the input directory given in the
+     * options and print a report
+     * @param options The options given to the launcher
+     */
+    @SneakyThrows
+    void run(LauncherOptions options) {
+        int day = options.getDays().get(0);
+        List<Path> inputs = listInputs(options.getInputsDirectory());
+
+        if (inputs.isEmpty()) {
+            System.out.printf("There is no input file in %s%n", options.getInputsDirectory());
+            return;
+        }
+
+        // A stored answer would be measured instead of the solver
+        AnswerStore.setEnabled(false);
+
+        // Each task solves its parts in its own thread, the pool runs the inputs in parallel
+        ExecutionBackend backend = ExecutionBackend.callingThread();
+        backend.setTimeout(TimeUnit.SECONDS.toNanos(options.getTimeoutSeconds()));
+        ForkJoinPool pool = new ForkJoinPool(options.getThreads());
+
+        try {
+            solveAll(pool, day, options.getParts(), inputs.subList(0, Math.min(WARMUP_INPUTS, inputs.size())), backend);
+
+            long start = System.nanoTime();
+            List<InputResult> results = solveAll(pool, day, options.getParts(), inputs, backend);
+            long totalNanos = System.nanoTime() - start;
+
+            printReport(day, results, totalNanos, options.getThreads());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<Path> listInputs(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            // Sorted so the report is in the same order on every run
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<InputResult> solveAll(
+        ForkJoinPool pool,
+        int day,
+        List<Integer> parts,
+        List<Path> inputs,
+        ExecutionBackend backend
+    ) {
+        List<ForkJoinTask<InputResult>> tasks = new ArrayList<>();
+
+        // Submit everything first, the idle threads steal the inputs left in the queues of the busy ones
+        for (Path input : inputs) {
+            tasks.add(pool.submit(() -> solve(day, parts, input, backend)));
+        }
+
+        return tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+    }
+
+    private InputResult solve(int day, List<Integer> parts, Path input, ExecutionBackend backend) {
+        long start = System.nanoTime();
+        List<ExecutionResult> results = Launcher.executeAsync(
+            day,
+            parts,
+            () -> ChallengeHelper.readInputData(input),
+            backend
+        ).stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+        return new InputResult(input, results, System.nanoTime() - start);
+    }
+
+    private void printReport(int day, List<InputResult> results, long totalNanos, int threads) {
+        int nameWidth = results.stream().mapToInt(result -> name(result).length()).max().orElse(0);
+        nameWidth = Math.max(nameWidth, "Input".length());
+        String format = "%-" + nameWidth + "s | %12s | %s%n";
+
+        System.out.printf("Day %02d%n", day);
+        System.out.printf(format, "Input", "Latency", "Answers");
+        System.out.print(String.format(format, "", "", "").replace(' ', '-').replace('|', '+'));
+
+        long[] latencies = new long[results.size()];
+        int failed = 0;
+
+        for (int i = 0; i < results.size(); i++) {
+            InputResult result = results.get(i);
+            latencies[i] = result.getLatencyNanos();
+
+            if (result.getResults().stream().anyMatch(part -> !part.isSuccessful())) {
+                failed++;
+            }
+
+            System.out.printf(
+                format,
+                name(result),
+                BatchLauncher.formatNanos(result.getLatencyNanos()),
+                result.getResults().stream().map(ThroughputRun::describe).collect(Collectors.joining(", "))
+            );
+        }
+
+        Arrays.sort(latencies);
+
+        System.out.printf(
+            "%nSolved %d inputs (%d failed) on a work-stealing pool of %d threads in %s%n",
+            results.size(),
+            failed,
+            threads,
+            BatchLauncher.formatNanos(totalNanos)
+        );
+        System.out.printf(
+            "Throughput: %.2f inputs/s, latency p50 %s, p99 %s%n",
+            results.size() / (totalNanos / 1_000_000_000.0),
+            BatchLauncher.formatNanos(percentile(latencies, 50)),
+            BatchLauncher.formatNanos(percentile(latencies, 99))
+        );
+    }
+
+    /**
+     * @param sorted Some values, in ascending order
+     * @param percent The percentile wanted, between 0 and 100
+     * @return The smallest value greater than or equal to this percent of the values
+     */
+    long percentile(long[] sorted, double percent) {
+        // The nearest rank, so the result is always one of the values
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private String name(InputResult result) {
+        return String.valueOf(result.getInput().getFileName());
+    }
+
+    private String describe(ExecutionResult result) {
+        if (!result.isSuccessful()) {
+            return String.format("part %d: ERROR: %s", result.getPart(), result.getError());
+        }
+
+        // Keep the drawings of day 10 on one line
+        return String.format("part %d: %s", result.getPart(), String.valueOf(result.getAnswer()).replace("\n", " / "));
+    }
+
+    @Value
+    private class InputResult {
+        private Path input;
+        private List<ExecutionResult> results;
+        // From the reading of the input to the answer of its last part
+        private long latencyNanos;
+    }
+}
@@ -0,0 +1,35 @@
+package days;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compare the answer of an optimized solver to the answers found by a brute force
+ */
+final class BruteForce {
+    private BruteForce() {
+    }
+
+    /**
+     * @param input The input solved, shown when the answers differ
+     * @param expected All the right answers found by the brute force, none if the input has no answer
+     * @param solver The optimized solver, throwing an IllegalArgumentException for an input without answer
+     */
+    static void assertSameAnswer(Object input, Set<String> expected, Supplier<String> solver) {
+        if (!expected.isEmpty()) {
+            String answer = solver.get();
+            assertTrue(input + " gave " + answer + " instead of one of " + expected, expected.contains(answer));
+            return;
+        }
+
+        try {
+            String answer = solver.get();
+            fail(input + " has no answer but gave " + answer);
+        } catch (IllegalArgumentException e) {
+            // Expected, the brute force found no answer either
+        }
+    }
+}
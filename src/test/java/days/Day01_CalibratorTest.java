@@ -0,0 +1,134 @@
+package days;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Check the calibrator of day 1 against the simulation of part two, with the changes given one
+ * at a time and in batches of random sizes
+ */
+public class Day01_CalibratorTest {
+    @Test
+    public void startingFrequencyCountsAsReached() {
+        assertEquals(OptionalLong.of(0), feed(new int[]{1, -1}, 1).getFirstRepeated());
+        assertEquals(OptionalLong.of(10), feed(new int[]{3, 3, 4, -2, -4}, 3).getFirstRepeated());
+    }
+
+    @Test
+    public void noRepeatYet() {
+        Day01_ChronalCalibration.Calibrator calibrator = feed(new int[]{1, 2, 4}, 10);
+
+        assertFalse(calibrator.getFirstRepeated().isPresent());
+        assertEquals(70, calibrator.getFrequency());
+        assertEquals(30, calibrator.getChanges());
+    }
+
+    @Test
+    public void closeFrequenciesShareTheirWords() {
+        // 0 to 64000 fill the words 0 to 1000
+        Day01_ChronalCalibration.Calibrator calibrator = new Day01_ChronalCalibration.Calibrator(frequency -> { }, 1001);
+
+        for (int i = 0; i < 64_000; i++) {
+            calibrator.accept(1);
+        }
+
+        assertEquals(64_000, calibrator.getFrequency());
+        assertFalse(calibrator.getFirstRepeated().isPresent());
+    }
+
+    @Test
+    public void capsTheWordsOfASpreadFeed() {
+        // Each frequency is in a word of its own, the starting one included
+        Day01_ChronalCalibration.Calibrator calibrator = new Day01_ChronalCalibration.Calibrator(frequency -> { }, 1000);
+
+        for (int i = 0; i < 999; i++) {
+            calibrator.accept(100);
+        }
+
+        try {
+            calibrator.accept(100);
+            fail("The calibrator should need more words than allowed");
+        } catch (IllegalStateException e) {
+            // The change is not applied
+            assertEquals(99_900, calibrator.getFrequency());
+            assertEquals(999, calibrator.getChanges());
+        }
+
+        // Going back to a frequency already reached needs no new word
+        assertTrue(calibrator.accept(-100));
+        assertEquals(OptionalLong.of(99_800), calibrator.getFirstRepeated());
+    }
+
+    @Test
+    public void matchesTheSimulationOnRandomChanges() {
+        Random random = new Random(3);
+
+        for (int run = 0; run < 2000; run++) {
+            check(FrequencySimulation.randomChanges(random), random);
+        }
+    }
+
+    @Test
+    public void matchesTheSimulationOnChangesSpreadOverManyWords() {
+        Random random = new Random(4);
+
+        for (int run = 0; run < 200; run++) {
+            // Far apart frequencies, negative ones included, each in a word of its own
+            check(FrequencySimulation.spreadChanges(random, 1_000_000, 10_000), random);
+        }
+    }
+
+    private void check(int[] changes, Random random) {
+        Long expected = FrequencySimulation.simulate(changes);
+        long passes = FrequencySimulation.passesToRepeat(changes);
+        List<Long> repeats = new ArrayList<>();
+        Day01_ChronalCalibration.Calibrator calibrator = new Day01_ChronalCalibration.Calibrator(repeats::add);
+        int found = 0;
+
+        for (long pass = 0; pass < passes; pass++) {
+            int offset = 0;
+
+            // Alternate single changes and batches so both ways of giving them are compared
+            while (offset < changes.length) {
+                int length = 1 + random.nextInt(changes.length - offset);
+
+                if (length == 1 && random.nextBoolean()) {
+                    found += calibrator.accept(changes[offset]) ? 1 : 0;
+                } else {
+                    found += calibrator.accept(changes, offset, length) ? 1 : 0;
+                }
+
+                offset += length;
+            }
+        }
+
+        String message = Arrays.toString(changes);
+        long drift = Arrays.stream(changes).asLongStream().sum();
+
+        assertEquals(message, expected != null ? OptionalLong.of(expected) : OptionalLong.empty(), calibrator.getFirstRepeated());
+        assertEquals(message, expected != null ? 1 : 0, found);
+        assertEquals(message, expected != null ? Arrays.asList(expected) : Arrays.asList(), repeats);
+        assertEquals(message, passes * drift, calibrator.getFrequency());
+        assertEquals(message, passes * changes.length, calibrator.getChanges());
+    }
+
+    private Day01_ChronalCalibration.Calibrator feed(int[] changes, int passes) {
+        Day01_ChronalCalibration.Calibrator calibrator = new Day01_ChronalCalibration.Calibrator();
+
+        for (int pass = 0; pass < passes; pass++) {
+            calibrator.accept(changes);
+        }
+
+        return calibrator;
+    }
+}
@@ -0,0 +1,75 @@
+package days;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Check part two of day 1 against a simulation of the passes on random changes, with a positive,
+ * a negative and no drift
+ */
+public class Day01_ChronalCalibrationTest {
+    private final Day01_ChronalCalibration day = new Day01_ChronalCalibration();
+
+    @Test
+    public void examplesFromThePuzzle() {
+        // The starting frequency counts as reached
+        assertEquals("0", day.executePartTwo(new int[]{1, -1}));
+        assertEquals("10", day.executePartTwo(new int[]{3, 3, 4, -2, -4}));
+        assertEquals("5", day.executePartTwo(new int[]{-6, 3, 8, 5, -6}));
+        assertEquals("14", day.executePartTwo(new int[]{7, 7, -2, -7, -4}));
+    }
+
+    @Test
+    public void zeroDriftRepeatsTheStartingFrequency() {
+        // No frequency repeats before the end of the first pass, back to 0
+        assertEquals("0", day.executePartTwo(new int[]{2, 3, -5}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noRepeatWithAPositiveDrift() {
+        day.executePartTwo(new int[]{1, 2, 4});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noRepeatWithANegativeDrift() {
+        // The first pass reaches 0, -3 and -1, the next ones are 6 lower and never meet them
+        day.executePartTwo(new int[]{-3, 2, -5});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noChange() {
+        day.executePartTwo(new int[0]);
+    }
+
+    @Test
+    public void matchesTheSimulationOnRandomChanges() {
+        Random random = new Random(1);
+
+        for (int run = 0; run < 2000; run++) {
+            check(FrequencySimulation.randomChanges(random));
+        }
+    }
+
+    @Test
+    public void matchesTheSimulationOnChangesSpreadTooWideForTheBitmap() {
+        Random random = new Random(2);
+
+        for (int run = 0; run < 200; run++) {
+            // Big enough to spread the frequencies over more than 1 << 24 values
+            check(FrequencySimulation.spreadChanges(random, 100_000_000, 1_000_000));
+        }
+    }
+
+    private void check(int[] changes) {
+        Long repeated = FrequencySimulation.simulate(changes);
+        Set<String> expected = repeated != null ? Collections.singleton(String.valueOf(repeated)) : Collections.emptySet();
+
+        BruteForce.assertSameAnswer(Arrays.toString(changes), expected, () -> day.executePartTwo(changes));
+    }
+}
@@ -0,0 +1,92 @@
+package days;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Check the sum of a mapped file of changes, split in regions and chunks, against part one on the
+ * parsed lines
+ */
+public class Day01_SumChangesTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Day01_ChronalCalibration day = new Day01_ChronalCalibration();
+
+    @Test
+    public void matchesPartOneOnAFileOfManyChunks() throws IOException {
+        Random random = new Random(7);
+        List<String> lines = new ArrayList<>();
+        StringBuilder file = new StringBuilder();
+
+        // About 3 MB, so each region is split in chunks of 1 MB at a new line
+        while (file.length() < 3 * 1024 * 1024) {
+            int change = random.nextInt(2_000_001) - 1_000_000;
+            String line = change >= 0 && random.nextBoolean() ? "+" + change : String.valueOf(change);
+            lines.add(line);
+            // Some lines end like on Windows
+            file.append(line).append(random.nextInt(10) == 0 ? "\r\n" : "\n");
+        }
+
+        // The last line has no new line
+        lines.add("-42");
+        file.append("-42");
+
+        Path path = write(file.toString());
+        String expected = day.executePartOne(day.parse(lines));
+
+        assertEquals(expected, String.valueOf(Day01_ChronalCalibration.sumChanges(path)));
+
+        // Regions smaller than the file and than a chunk, each ending at the last new line they hold
+        for (long regionBytes : new long[]{1_500_000, 100_000, 64}) {
+            assertEquals(expected, String.valueOf(Day01_ChronalCalibration.sumChanges(path, regionBytes)));
+        }
+    }
+
+    @Test
+    public void skipsTheEmptyLines() throws IOException {
+        assertEquals(4, Day01_ChronalCalibration.sumChanges(write("+1\n\n-2\r\n\n+5\n")));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void rejectsALineWithOtherBytes() throws IOException {
+        Day01_ChronalCalibration.sumChanges(write("+1\n+1x2\n-3\n"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void rejectsASignWithoutDigits() throws IOException {
+        Day01_ChronalCalibration.sumChanges(write("+1\n-\n"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void rejectsASignAfterTheDigits() throws IOException {
+        Day01_ChronalCalibration.sumChanges(write("+1\n2-3\n"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void rejectsAChangeTooBigForALong() throws IOException {
+        Day01_ChronalCalibration.sumChanges(write("+1\n99999999999999999999\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsALineLongerThanARegion() throws IOException {
+        Day01_ChronalCalibration.sumChanges(write("+1\n+123456789\n-1\n"), 8);
+    }
+
+    private Path write(String content) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.US_ASCII));
+        return path;
+    }
+}
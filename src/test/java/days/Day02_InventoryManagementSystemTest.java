@@ -0,0 +1,196 @@
+package days;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Check the checksum of day 2 against a sequential count, and part two against a comparison of
+ * every pair of IDs on random IDs, with few letters so many IDs share a masked hash, IDs given
+ * twice and IDs of different lengths
+ */
+public class Day02_InventoryManagementSystemTest {
+    private final Day02_InventoryManagementSystem day = new Day02_InventoryManagementSystem();
+
+    @Test
+    public void checksumOfThePuzzleExample() {
+        List<String> ids = Arrays.asList("abcdef", "bababc", "abbcde", "abcccd", "aabcdd", "abcdee", "ababab");
+
+        assertEquals("12", day.executePartOne(ids));
+    }
+
+    @Test
+    public void checksumCountsAnyChar() {
+        // The pairs and triples of uppercase letters, digits and other chars count like the letters
+        // 4 IDs with a char twice and 2 with a char three times
+        assertEquals("8", day.executePartOne(Arrays.asList("AAb", "1-1-1", "\u00e9\u00e9", "ab c", "zzz.aa")));
+    }
+
+    @Test
+    public void checksumBiggerThanAnInt() {
+        // 50000 twos times 50000 threes, more than Integer.MAX_VALUE
+        assertEquals("2500000000", day.executePartOne(Collections.nCopies(50_000, "aabbb")));
+    }
+
+    @Test
+    public void parallelChecksumMatchesTheSequentialCount() {
+        Random random = new Random(8);
+
+        for (int run = 0; run < 20; run++) {
+            List<String> ids = new ArrayList<>();
+
+            for (int i = random.nextInt(20_000); i >= 0; i--) {
+                // Mostly lowercase letters, and some IDs with other chars
+                int letters = random.nextInt(20) == 0 ? 60 : 8;
+                ids.add(randomId(random, 1 + random.nextInt(12), letters));
+            }
+
+            assertEquals(String.valueOf(countSequentially(ids)), day.executePartOne(ids));
+        }
+    }
+
+    @Test
+    public void exampleFromThePuzzle() {
+        List<String> ids = Arrays.asList("abcde", "fghij", "klmno", "pqrst", "fguij", "axcye", "wvxyz");
+
+        assertEquals("fgij", day.executePartTwo(ids));
+    }
+
+    @Test
+    public void differentLengthsDoNotMatch() {
+        // "abc" and "abcd" differ by one letter added, not changed
+        assertEquals("bd", day.executePartTwo(Arrays.asList("abc", "abcd", "xbd", "ybd")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sameIdTwice() {
+        day.executePartTwo(Arrays.asList("abcde", "fghij", "abcde"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noIds() {
+        day.executePartTwo(new ArrayList<>());
+    }
+
+    @Test
+    public void matchesEveryPairOnRandomIds() {
+        Random random = new Random(5);
+
+        for (int run = 0; run < 2000; run++) {
+            int letters = 2 + random.nextInt(random.nextBoolean() ? 3 : 24);
+            List<String> ids = new ArrayList<>();
+
+            for (int i = random.nextInt(40); i >= 0; i--) {
+                // Sometimes give an ID twice, it doesn't differ from itself
+                if (!ids.isEmpty() && random.nextInt(10) == 0) {
+                    ids.add(ids.get(random.nextInt(ids.size())));
+                } else {
+                    ids.add(randomId(random, 1 + random.nextInt(8), letters));
+                }
+            }
+
+            check(ids);
+        }
+    }
+
+    @Test
+    public void findsTheOnlyPairAmongLongIds() {
+        Random random = new Random(6);
+
+        for (int run = 0; run < 200; run++) {
+            List<String> ids = new ArrayList<>();
+
+            for (int i = 0; i < 250; i++) {
+                ids.add(randomId(random, 26, 26));
+            }
+
+            // Change one letter of a copy of one of the IDs
+            char[] copy = ids.get(random.nextInt(ids.size())).toCharArray();
+            int position = random.nextInt(copy.length);
+            copy[position] = (char) ('a' + (copy[position] - 'a' + 1 + random.nextInt(25)) % 26);
+            ids.add(random.nextInt(ids.size() + 1), new String(copy));
+
+            check(ids);
+        }
+    }
+
+    private void check(List<String> ids) {
+        BruteForce.assertSameAnswer(ids, compareEveryPair(ids), () -> day.executePartTwo(ids));
+    }
+
+    /**
+     * @return The common letters of all the pairs of IDs differing by exactly one letter, any of
+     * them is a right answer
+     */
+    private Set<String> compareEveryPair(List<String> ids) {
+        Set<String> answers = new HashSet<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            for (int j = i + 1; j < ids.size(); j++) {
+                String first = ids.get(i);
+                String second = ids.get(j);
+
+                if (first.length() != second.length()) {
+                    continue;
+                }
+
+                int difference = -1;
+                int differences = 0;
+
+                for (int k = 0; k < first.length(); k++) {
+                    if (first.charAt(k) != second.charAt(k)) {
+                        difference = k;
+                        differences++;
+                    }
+                }
+
+                if (differences == 1) {
+                    answers.add(first.substring(0, difference) + first.substring(difference + 1));
+                }
+            }
+        }
+
+        return answers;
+    }
+
+    /**
+     * @return The checksum counted one ID after the other, with a map of the count of each char
+     */
+    private long countSequentially(List<String> ids) {
+        long twos = 0;
+        long threes = 0;
+
+        for (String id : ids) {
+            Map<Character, Integer> counts = new HashMap<>();
+
+            for (char c : id.toCharArray()) {
+                counts.merge(c, 1, Integer::sum);
+            }
+
+            twos += counts.containsValue(2) ? 1 : 0;
+            threes += counts.containsValue(3) ? 1 : 0;
+        }
+
+        return twos * threes;
+    }
+
+    private String randomId(Random random, int length, int letters) {
+        StringBuilder id = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            id.append((char) ('a' + random.nextInt(letters)));
+        }
+
+        return id.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package days;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Random changes of frequency for day 1, and the first frequency reached twice found by applying
+ * them pass after pass
+ */
+final class FrequencySimulation {
+    private FrequencySimulation() {
+    }
+
+    /**
+     * @return A few changes, mostly small so they often repeat, with a drift of any sign, zero included
+     */
+    static int[] randomChanges(Random random) {
+        int[] changes = new int[1 + random.nextInt(20)];
+        int bound = 1 + random.nextInt(random.nextBoolean() ? 10 : 1000);
+
+        for (int i = 0; i < changes.length; i++) {
+            changes[i] = random.nextInt(2 * bound + 1) - bound;
+        }
+
+        // Cancel the drift a third of the times, the last change brings the sum back to 0
+        if (changes.length > 1 && random.nextInt(3) == 0) {
+            long sum = 0;
+
+            for (int i = 0; i < changes.length - 1; i++) {
+                sum += changes[i];
+            }
+
+            changes[changes.length - 1] = (int) -sum;
+        }
+
+        return changes;
+    }
+
+    /**
+     * @param bound The largest change, in both directions
+     * @param minimumDrift The smallest drift accepted, a tiny drift would need too many passes to simulate
+     * @return Up to 50 changes spreading the frequencies widely
+     */
+    static int[] spreadChanges(Random random, int bound, long minimumDrift) {
+        while (true) {
+            int[] changes = new int[1 + random.nextInt(50)];
+            long drift = 0;
+
+            for (int i = 0; i < changes.length; i++) {
+                changes[i] = random.nextInt(2 * bound + 1) - bound;
+                drift += changes[i];
+            }
+
+            if (Math.abs(drift) >= minimumDrift) {
+                return changes;
+            }
+        }
+    }
+
+    /**
+     * Apply the changes pass after pass, from the starting frequency 0, until a frequency is
+     * reached twice
+     * @return The first frequency reached twice, null if there is none
+     */
+    static Long simulate(int[] changes) {
+        long passes = passesToRepeat(changes);
+        Set<Long> reached = new HashSet<>();
+        long frequency = 0;
+        reached.add(frequency);
+
+        for (long pass = 0; pass < passes; pass++) {
+            for (int change : changes) {
+                frequency += change;
+
+                if (!reached.add(frequency)) {
+                    return frequency;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * The frequencies of each pass are the ones of the first pass shifted by the drift, so a
+     * frequency can only be reached again within (highest - lowest) / |drift| passes
+     * @return A number of passes after which a frequency can't be reached twice if it hasn't been yet
+     */
+    static long passesToRepeat(int[] changes) {
+        long drift = 0;
+        long lowest = 0;
+        long highest = 0;
+
+        for (int change : changes) {
+            drift += change;
+            lowest = Math.min(lowest, drift);
+            highest = Math.max(highest, drift);
+        }
+
+        return drift == 0 ? 2 : (highest - lowest) / Math.abs(drift) + 2;
+    }
+}
@@ -0,0 +1,47 @@
+package launcher;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Check the answer of each part on its input file against the answer accepted by the website
+ */
+@RunWith(Parameterized.class)
+public class GoldenAnswersTest {
+    private static final Properties GOLDEN_ANSWERS = TestDays.loadGoldenAnswers();
+
+    private final int day;
+    private final int part;
+
+    public GoldenAnswersTest(int day, int part) {
+        this.day = day;
+        this.part = part;
+    }
+
+    @Parameterized.Parameters(name = "Day {0} part {1}")
+    public static List<Object[]> parameters() {
+        return TestDays.parameters();
+    }
+
+    @BeforeClass
+    public static void disableAnswerStore() {
+        // A stored answer would hide a solver giving a wrong one
+        AnswerStore.setEnabled(false);
+    }
+
+    @Test
+    public void answerMatchesGoldenAnswer() {
+        ExecutionResult result = Launcher.execute(day, part);
+
+        assertNull("The part failed", result.getError());
+        assertEquals(GOLDEN_ANSWERS.getProperty(TestDays.key(day, part)), result.getAnswer());
+    }
+}
@@ -0,0 +1,203 @@
+package launcher;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compare the median time and allocations of each part to the committed baseline and fail when
+ * one of them grows by more than a percentage. The time is the CPU time of the thread solving the
+ * part, which the other processes of the machine disturb much less than the wall time. The
+ * measures still depend on the machine, so the test only runs when asked for:
+ * <ul>
+ *     <li>aoc.performance=true to run the test</li>
+ *     <li>aoc.performance.threshold the regression allowed, in percent (default: 30)</li>
+ *     <li>aoc.performance.warmups the number of runs of each part before measuring it (default: 3)</li>
+ *     <li>aoc.performance.runs the number of measured runs of each part (default: 5)</li>
+ *     <li>aoc.performance.updateBaseline=true to write the measures as the new baseline instead</li>
+ *     <li>aoc.performance.baseline the baseline file (default: src/test/resources/performance-baseline.properties)</li>
+ * </ul>
+ */
+@RunWith(Parameterized.class)
+public class PerformanceRegressionTest {
+    private static final boolean ENABLED = Boolean.getBoolean("aoc.performance");
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("aoc.performance.updateBaseline");
+    private static final int THRESHOLD_PERCENT = Integer.getInteger("aoc.performance.threshold", 30);
+    private static final int WARMUPS = Integer.getInteger("aoc.performance.warmups", 3);
+    private static final int RUNS = Integer.getInteger("aoc.performance.runs", 5);
+    private static final Path BASELINE_PATH = Paths.get(
+        System.getProperty("aoc.performance.baseline", "src/test/resources/performance-baseline.properties")
+    );
+    // A part this much slower is never a regression, the JIT makes more noise than that from one
+    // JVM to the next on the parts taking a few milliseconds
+    private static final long NOISE_NANOS = 5_000_000;
+    // Likewise for the allocations, a few small arrays more are not a regression of a part
+    // allocating only a few kilobytes
+    private static final long NOISE_BYTES = 64 * 1024;
+
+    private static final Properties GOLDEN_ANSWERS = TestDays.loadGoldenAnswers();
+    private static Properties baseline;
+    // The measures of this run, written as the new baseline when asked for
+    private static final Map<String, Long> measures = new TreeMap<>();
+
+    private final int day;
+    private final int part;
+
+    public PerformanceRegressionTest(int day, int part) {
+        this.day = day;
+        this.part = part;
+    }
+
+    @Parameterized.Parameters(name = "Day {0} part {1}")
+    public static List<Object[]> parameters() {
+        return TestDays.parameters();
+    }
+
+    @BeforeClass
+    public static void loadBaseline() throws IOException {
+        Assume.assumeTrue("Run with -Daoc.performance=true", ENABLED || UPDATE_BASELINE);
+
+        // A stored answer would be measured instead of the solver
+        AnswerStore.setEnabled(false);
+        baseline = new Properties();
+
+        if (Files.exists(BASELINE_PATH)) {
+            try (Reader reader = Files.newBufferedReader(BASELINE_PATH, StandardCharsets.UTF_8)) {
+                baseline.load(reader);
+            }
+        }
+    }
+
+    @AfterClass
+    public static void writeBaseline() throws IOException {
+        if (!UPDATE_BASELINE || measures.isEmpty()) {
+            return;
+        }
+
+        // Keep the parts which were not measured this time, e.g. with -Daoc.days
+        Map<String, String> lines = new TreeMap<>();
+
+        for (String key : baseline.stringPropertyNames()) {
+            lines.put(key, baseline.getProperty(key));
+        }
+
+        measures.forEach((key, value) -> lines.put(key, String.valueOf(value)));
+
+        List<String> content = new ArrayList<>(Arrays.asList(
+            "# The median time and allocations of each part, compared by PerformanceRegressionTest.",
+            String.format(
+                "# Measured with Java %s on %s with %d processors, update it with -Daoc.performance.updateBaseline=true",
+                System.getProperty("java.version"),
+                System.getProperty("os.name"),
+                Runtime.getRuntime().availableProcessors()
+            )
+        ));
+        lines.forEach((key, value) -> content.add(key + "=" + value));
+
+        Files.write(BASELINE_PATH, content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void partDoesNotRegress() {
+        // Let the JIT compile the part, then measure it
+        for (int i = 0; i < WARMUPS; i++) {
+            measure();
+        }
+
+        long[] cpuTimes = new long[RUNS];
+        long[] allocations = new long[RUNS];
+
+        for (int i = 0; i < RUNS; i++) {
+            ExecutionMetrics metrics = measure();
+            // The wall time when the JVM can't measure the CPU time of a thread
+            cpuTimes[i] = metrics.getCpuTimeNanos() >= 0 ? metrics.getCpuTimeNanos() : metrics.getWallTimeNanos();
+            allocations[i] = metrics.getAllocatedBytes();
+        }
+
+        String key = TestDays.key(day, part);
+        long cpuTime = median(cpuTimes);
+        long allocatedBytes = median(allocations);
+
+        if (UPDATE_BASELINE) {
+            measures.put(key + ".cpuNanos", cpuTime);
+            measures.put(key + ".allocatedBytes", allocatedBytes);
+            return;
+        }
+
+        String baselineCpuTime = baseline.getProperty(key + ".cpuNanos");
+        String baselineAllocatedBytes = baseline.getProperty(key + ".allocatedBytes");
+        Assume.assumeTrue("No baseline for " + key, baselineCpuTime != null);
+
+        long allowedCpuTime = allowed(Long.parseLong(baselineCpuTime));
+        assertTrue(
+            String.format(
+                "%s took %.3f ms of CPU, its baseline is %.3f ms and %d%% more is allowed",
+                key,
+                cpuTime / 1_000_000.0,
+                Long.parseLong(baselineCpuTime) / 1_000_000.0,
+                THRESHOLD_PERCENT
+            ),
+            cpuTime <= Math.max(allowedCpuTime, Long.parseLong(baselineCpuTime) + NOISE_NANOS)
+        );
+
+        // The allocations are not measured on every JVM
+        if (baselineAllocatedBytes != null && allocatedBytes >= 0 && Long.parseLong(baselineAllocatedBytes) >= 0) {
+            assertTrue(
+                String.format(
+                    "%s allocated %d bytes, its baseline is %s bytes and %d%% more is allowed",
+                    key,
+                    allocatedBytes,
+                    baselineAllocatedBytes,
+                    THRESHOLD_PERCENT
+                ),
+                allocatedBytes <= Math.max(
+                    allowed(Long.parseLong(baselineAllocatedBytes)),
+                    Long.parseLong(baselineAllocatedBytes) + NOISE_BYTES
+                )
+            );
+        }
+    }
+
+    private ExecutionMetrics measure() {
+        ExecutionResult result = Launcher.execute(day, part);
+
+        // A faster part giving a wrong answer is not an improvement
+        assertNull("The part failed", result.getError());
+        assertEquals(GOLDEN_ANSWERS.getProperty(TestDays.key(day, part)), result.getAnswer());
+
+        // The parsing is part of the cost of the part
+        return result.getParseMetrics() != null
+            ? result.getParseMetrics().plus(result.getMetrics())
+            : result.getMetrics();
+    }
+
+    private long allowed(long baselineValue) {
+        return baselineValue + baselineValue * THRESHOLD_PERCENT / 100;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
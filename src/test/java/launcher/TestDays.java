@@ -0,0 +1,58 @@
+package launcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The days and parts checked by the tests, the ones with a golden answer. They can be narrowed
+ * with the system property "aoc.days", e.g. -Daoc.days=1-5,8
+ */
+final class TestDays {
+    private TestDays() {
+    }
+
+    /**
+     * @return The golden answers, keyed by "dayNN.partN"
+     */
+    static Properties loadGoldenAnswers() {
+        Properties answers = new Properties();
+
+        try (InputStream stream = TestDays.class.getResourceAsStream("/golden-answers.properties")) {
+            answers.load(stream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't read the golden answers.", e);
+        }
+
+        return answers;
+    }
+
+    /**
+     * @return The day and the part of each test, in ascending order
+     */
+    static List<Object[]> parameters() {
+        String filter = System.getProperty("aoc.days");
+        Set<Integer> days = filter != null ? new TreeSet<>(LauncherHelper.parseIntegerRanges(filter, 1, 25)) : null;
+        List<Object[]> parameters = new ArrayList<>();
+
+        for (String key : new TreeSet<>(loadGoldenAnswers().stringPropertyNames())) {
+            // "day01.part2" -> 1 and 2
+            int day = Integer.parseInt(key.substring(3, 5));
+            int part = Integer.parseInt(key.substring(10));
+
+            if (days == null || days.contains(day)) {
+                parameters.add(new Object[]{day, part});
+            }
+        }
+
+        return parameters;
+    }
+
+    static String key(int day, int part) {
+        return String.format("day%02d.part%d", day, part);
+    }
+}